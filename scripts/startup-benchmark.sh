@@ -0,0 +1,56 @@
+#!/usr/bin/env bash
+#
+# Startup benchmark: time until the first successful GET /api/v1/tasks, and RSS at that point.
+#
+# Usage:
+#   scripts/startup-benchmark.sh [runs] -- <command to start the application>
+#
+# Examples:
+#   # Plain fat jar
+#   scripts/startup-benchmark.sh 5 -- java -jar target/task-management-api-1.0.0.jar
+#
+#   # fast-startup build: AOT + CDS archive on the extracted jar
+#   scripts/startup-benchmark.sh 5 -- java -XX:SharedArchiveFile=target/application/application.jsa \
+#       -Dspring.aot.enabled=true -Dspring.profiles.active=fast-startup \
+#       -jar target/application/task-management-api-1.0.0.jar
+set -euo pipefail
+
+RUNS=1
+if [[ $# -gt 0 && "$1" != "--" ]]; then
+  RUNS=$1
+  shift
+fi
+[[ "${1:-}" == "--" ]] && shift
+if [[ $# -eq 0 ]]; then
+  echo "usage: $0 [runs] -- <start command>" >&2
+  exit 2
+fi
+
+PORT=${PORT:-8080}
+URL="http://localhost:${PORT}/api/v1/tasks"
+LOG=$(mktemp)
+
+for run in $(seq 1 "$RUNS"); do
+  start=$(date +%s%N)
+  "$@" --server.port="$PORT" >"$LOG" 2>&1 &
+  pid=$!
+
+  until curl -sf -o /dev/null "$URL"; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "application exited before serving requests, log:" >&2
+      cat "$LOG" >&2
+      exit 1
+    fi
+    sleep 0.01
+  done
+
+  end=$(date +%s%N)
+  rss_kb=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+  printf 'run %d: first GET /tasks after %d ms, RSS %d MB\n' \
+    "$run" $(( (end - start) / 1000000 )) $(( rss_kb / 1024 ))
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+done
+
+rm -f "$LOG"
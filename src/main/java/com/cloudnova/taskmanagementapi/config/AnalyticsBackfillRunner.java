@@ -0,0 +1,67 @@
+package com.cloudnova.taskmanagementapi.config;
+
+import com.cloudnova.taskmanagementapi.repository.ArchivedTaskRepository;
+import com.cloudnova.taskmanagementapi.repository.TaskRepository;
+import com.cloudnova.taskmanagementapi.repository.TaskRollupRepository;
+import com.cloudnova.taskmanagementapi.repository.bulkhead.Workload;
+import com.cloudnova.taskmanagementapi.repository.bulkhead.WorkloadContext;
+import com.cloudnova.taskmanagementapi.service.TaskAnalyticsService;
+import com.cloudnova.taskmanagementapi.tenant.TenantContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * AnalyticsBackfillRunner - Builds analytics rollups for pre-existing tasks at startup
+ *
+ * Runs after DataInitializer. A tenant's rollups are only rebuilt when it has
+ * none yet but owns tasks, e.g. after seeding or on the first start against an
+ * existing durable database.
+ */
+@Component
+@Order(10)
+@ConditionalOnProperty(prefix = "task.analytics", name = "backfill-on-startup", havingValue = "true", matchIfMissing = true)
+public class AnalyticsBackfillRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsBackfillRunner.class);
+
+    private final TaskAnalyticsService analyticsService;
+    private final TaskRollupRepository rollupRepository;
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archiveRepository;
+
+    @Autowired
+    public AnalyticsBackfillRunner(TaskAnalyticsService analyticsService,
+                                   TaskRollupRepository rollupRepository,
+                                   TaskRepository taskRepository,
+                                   ArchivedTaskRepository archiveRepository) {
+        this.analyticsService = analyticsService;
+        this.rollupRepository = rollupRepository;
+        this.taskRepository = taskRepository;
+        this.archiveRepository = archiveRepository;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Set<String> tenants = new TreeSet<>(taskRepository.findTenantIds());
+        tenants.addAll(archiveRepository.findTenantIds());
+
+        for (String tenant : tenants) {
+            TenantContext.runAs(tenant, () -> WorkloadContext.runAs(Workload.BACKGROUND, () -> {
+                if (rollupRepository.count() > 0) {
+                    logger.debug("Analytics rollups of tenant {} present, skipping backfill", tenant);
+                    return;
+                }
+                analyticsService.backfill();
+            }));
+        }
+    }
+}
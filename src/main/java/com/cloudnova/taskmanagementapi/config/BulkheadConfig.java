@@ -0,0 +1,81 @@
+package com.cloudnova.taskmanagementapi.config;
+
+import com.cloudnova.taskmanagementapi.repository.bulkhead.BulkheadProperties;
+import com.cloudnova.taskmanagementapi.repository.bulkhead.DataSourceBulkheads;
+import com.cloudnova.taskmanagementapi.repository.bulkhead.Workload;
+import com.cloudnova.taskmanagementapi.repository.bulkhead.WorkloadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * BulkheadConfig - One bounded connection pool per workload
+ *
+ * Replaces the single auto-configured pool with three pools over the same
+ * database: interactive reads, interactive writes, and background work. A
+ * slow statistics query or a running import can then exhaust only its own
+ * pool, and createTask still gets a connection from the write pool.
+ *
+ * Each pool publishes Hikari's metrics tagged with its pool name, including
+ * hikaricp.connections.acquire (wait time) and hikaricp.connections.timeout
+ * (acquisitions that gave up). The sharded profile keeps its per-shard pools.
+ */
+@Configuration
+@Profile("!sharded")
+@ConditionalOnProperty(prefix = "task.bulkheads", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class BulkheadConfig {
+
+    @Bean
+    public DataSourceBulkheads dataSourceBulkheads(BulkheadProperties bulkheads, DataSourceProperties base,
+                                                   MeterRegistry meterRegistry) {
+        Map<Workload, HikariDataSource> pools = new EnumMap<>(Workload.class);
+        for (Workload workload : Workload.values()) {
+            BulkheadProperties.Pool settings = bulkheads.get(workload);
+            HikariDataSource pool = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(base.determineDriverClassName())
+                    .url(base.determineUrl())
+                    .username(base.determineUsername())
+                    .password(base.determinePassword())
+                    .build();
+            pool.setPoolName(workload.getPoolName());
+            pool.setMaximumPoolSize(settings.getMaximumPoolSize());
+            pool.setConnectionTimeout(settings.getConnectionTimeout().toMillis());
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            pools.put(workload, pool);
+        }
+        return new DataSourceBulkheads(pools);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceBulkheads bulkheads) {
+        Map<Object, Object> targets = new HashMap<>();
+        for (Workload workload : Workload.values()) {
+            targets.put(workload, bulkheads.get(workload));
+        }
+
+        WorkloadRoutingDataSource routing = new WorkloadRoutingDataSource();
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(bulkheads.get(Workload.WRITE));
+        routing.afterPropertiesSet();
+
+        // Defer connection checkout to the first statement, when the transaction's read-only flag is known
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,30 @@
+package com.cloudnova.taskmanagementapi.config;
+
+import com.cloudnova.taskmanagementapi.repository.TaskRepository;
+import com.cloudnova.taskmanagementapi.repository.columnar.ColumnarTaskRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * ColumnarStoreConfig - Repository wiring for the "columnar" profile
+ *
+ * Replaces the JPA TaskRepository with the in-memory columnar store wherever
+ * a TaskRepository is injected. Archive, analytics and hierarchy tables stay
+ * in the database. The tasks table is left empty, so application-columnar.yml
+ * turns off the reads that query it directly: sparse fieldset pushdown,
+ * Criteria filters and the closure/tasks join. Activate with
+ * {@code SPRING_PROFILES_ACTIVE=columnar}; not combinable with the "sharded"
+ * profile.
+ */
+@Configuration
+@Profile("columnar")
+public class ColumnarStoreConfig {
+
+    @Bean
+    @Primary
+    public TaskRepository columnarTaskRepository() {
+        return ColumnarTaskRepository.create();
+    }
+}
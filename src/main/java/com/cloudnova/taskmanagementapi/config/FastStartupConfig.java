@@ -0,0 +1,57 @@
+package com.cloudnova.taskmanagementapi.config;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * FastStartupConfig - Bean tuning for the "fast-startup" profile
+ *
+ * Marks springdoc's beans lazy so OpenAPI introspection happens on the first
+ * request to /v3/api-docs or /swagger-ui instead of during startup. Unlike
+ * spring.main.lazy-initialization, the task request path stays eager and the
+ * first GET /tasks does not pay for bean creation.
+ */
+@Configuration
+@Profile("fast-startup")
+public class FastStartupConfig {
+
+    private static final String[] LAZY_PACKAGES = {"org.springdoc."};
+
+    @Bean
+    public static BeanFactoryPostProcessor lazyNonHotBeans() {
+        return beanFactory -> markLazy(beanFactory);
+    }
+
+    private static void markLazy(ConfigurableListableBeanFactory beanFactory) {
+        for (String name : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(name);
+            String type = declaringType(beanFactory, definition);
+            if (type == null) {
+                continue;
+            }
+            for (String prefix : LAZY_PACKAGES) {
+                if (type.startsWith(prefix)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Bean class for plain beans, configuration class for @Bean methods
+     */
+    private static String declaringType(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        if (definition.getBeanClassName() != null) {
+            return definition.getBeanClassName();
+        }
+        String factoryBean = definition.getFactoryBeanName();
+        if (factoryBean != null && beanFactory.containsBeanDefinition(factoryBean)) {
+            return beanFactory.getBeanDefinition(factoryBean).getBeanClassName();
+        }
+        return null;
+    }
+}
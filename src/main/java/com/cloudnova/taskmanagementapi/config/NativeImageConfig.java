@@ -0,0 +1,93 @@
+package com.cloudnova.taskmanagementapi.config;
+
+import com.cloudnova.taskmanagementapi.dto.ApiResponse;
+import com.cloudnova.taskmanagementapi.dto.TaskAnalyticsResponse;
+import com.cloudnova.taskmanagementapi.dto.TaskCreateRequest;
+import com.cloudnova.taskmanagementapi.dto.TaskHistoryResponse;
+import com.cloudnova.taskmanagementapi.dto.TaskLookupRequest;
+import com.cloudnova.taskmanagementapi.dto.TaskLookupResponse;
+import com.cloudnova.taskmanagementapi.dto.TaskMoveRequest;
+import com.cloudnova.taskmanagementapi.dto.TaskProgressResponse;
+import com.cloudnova.taskmanagementapi.dto.TaskResponse;
+import com.cloudnova.taskmanagementapi.dto.TaskSearchResponse;
+import com.cloudnova.taskmanagementapi.dto.TaskUpdateRequest;
+import com.cloudnova.taskmanagementapi.model.ArchivedTask;
+import com.cloudnova.taskmanagementapi.model.TagSetConverter;
+import com.cloudnova.taskmanagementapi.model.Task;
+import com.cloudnova.taskmanagementapi.model.TaskClosure;
+import com.cloudnova.taskmanagementapi.model.TaskHistoryEntry;
+import com.cloudnova.taskmanagementapi.model.TaskHistoryOutbox;
+import com.cloudnova.taskmanagementapi.model.TaskHourlyRollup;
+import com.cloudnova.taskmanagementapi.model.TaskPriority;
+import com.cloudnova.taskmanagementapi.model.TaskStatus;
+import com.cloudnova.taskmanagementapi.repository.TaskRepository;
+import com.cloudnova.taskmanagementapi.service.ImportJob;
+import com.cloudnova.taskmanagementapi.service.TaskService;
+import org.hibernate.dialect.H2Dialect;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * NativeImageConfig - Reachability metadata for the GraalVM native image
+ *
+ * Spring AOT derives most of what the native image needs from the bean
+ * definitions. This registers the rest, which is only reached reflectively at
+ * runtime: Hibernate instantiates the entities, their ID class and the tag
+ * converter; Jackson and springdoc introspect the DTOs, including payloads
+ * that never appear in a controller signature (the history outbox entry and
+ * NDJSON import rows); Bean Validation reads the constrained request fields;
+ * and the columnar profile creates a JDK proxy of TaskRepository.
+ *
+ * The hints are only consulted by the native build (-Pnative), on the JVM
+ * this class has no effect.
+ */
+@Configuration
+@ImportRuntimeHints(NativeImageConfig.TaskApiRuntimeHints.class)
+public class NativeImageConfig {
+
+    static class TaskApiRuntimeHints implements RuntimeHintsRegistrar {
+
+        private static final Class<?>[] ENTITIES = {
+                Task.class, ArchivedTask.class, TaskClosure.class, TaskClosure.Key.class,
+                TaskHistoryEntry.class, TaskHistoryOutbox.class, TaskHourlyRollup.class,
+                TaskStatus.class, TaskPriority.class
+        };
+
+        private static final Class<?>[] JSON_TYPES = {
+                ApiResponse.class, TaskResponse.class, TaskCreateRequest.class, TaskUpdateRequest.class,
+                TaskLookupRequest.class, TaskLookupResponse.class, TaskMoveRequest.class,
+                TaskSearchResponse.class, TaskProgressResponse.class, TaskAnalyticsResponse.class,
+                TaskHistoryResponse.class, TaskService.TaskStatistics.class, ImportJob.class,
+                TaskHistoryEntry.class
+        };
+
+        private static final Class<?>[] VALIDATED_REQUESTS = {
+                TaskCreateRequest.class, TaskUpdateRequest.class, TaskLookupRequest.class
+        };
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (Class<?> entity : ENTITIES) {
+                hints.reflection().registerType(entity,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_DECLARED_METHODS,
+                        MemberCategory.DECLARED_FIELDS);
+            }
+            hints.reflection().registerType(TagSetConverter.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            hints.reflection().registerType(H2Dialect.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+            // Getters, setters and constructors, recursively for nested types
+            new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), JSON_TYPES);
+
+            for (Class<?> request : VALIDATED_REQUESTS) {
+                hints.reflection().registerType(request, MemberCategory.DECLARED_FIELDS);
+            }
+
+            hints.proxies().registerJdkProxy(TaskRepository.class);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.cloudnova.taskmanagementapi.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * SchedulingConfig - Enables @Scheduled background jobs (task archival)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
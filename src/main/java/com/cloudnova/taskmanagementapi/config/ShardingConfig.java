@@ -0,0 +1,81 @@
+package com.cloudnova.taskmanagementapi.config;
+
+import com.cloudnova.taskmanagementapi.repository.sharding.ShardDataSources;
+import com.cloudnova.taskmanagementapi.repository.sharding.ShardRoutingDataSource;
+import com.cloudnova.taskmanagementapi.repository.sharding.ShardingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * ShardingConfig - Data source wiring for the "sharded" profile
+ *
+ * Replaces the single auto-configured data source with a routing data source
+ * over one connection pool per shard. Activate with
+ * {@code SPRING_PROFILES_ACTIVE=sharded}; shards are listed in
+ * {@code application-sharded.yml}.
+ */
+@Configuration
+@Profile("sharded")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean
+    public ShardDataSources shardDataSources(ShardingProperties sharding, DataSourceProperties base) {
+        if (sharding.getShards().isEmpty()) {
+            throw new IllegalStateException("task.sharding.shards must list at least one shard");
+        }
+
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (int i = 0; i < sharding.getShards().size(); i++) {
+            ShardingProperties.Shard shard = sharding.getShards().get(i);
+            HikariDataSource pool = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(base.getDriverClassName())
+                    .url(shard.getUrl())
+                    .username(base.getUsername())
+                    .password(base.getPassword())
+                    .build();
+            pool.setPoolName("shard-" + i);
+            pool.setMaximumPoolSize(shard.getMaximumPoolSize());
+            pools.add(pool);
+        }
+        return new ShardDataSources(pools);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardDataSources shards) {
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            targets.put(i, shards.get(i));
+        }
+
+        ShardRoutingDataSource routing = new ShardRoutingDataSource();
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(shards.get(0));
+        routing.afterPropertiesSet();
+
+        // Defer connection checkout to the first statement so the routing aspect decides the shard
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ExecutorService shardScatterExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+}
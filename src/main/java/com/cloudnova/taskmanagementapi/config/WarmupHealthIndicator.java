@@ -0,0 +1,67 @@
+package com.cloudnova.taskmanagementapi.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * WarmupHealthIndicator - Reports WARMING_UP until the JIT warm-up has finished
+ *
+ * Only the readiness group (/actuator/health/readiness) orders WARMING_UP
+ * before UP and maps it to 503 (management.endpoint.health.group.readiness.status
+ * in application.yml), so a load balancer or Kubernetes only routes traffic to
+ * the instance once the hot path has been compiled. The aggregate
+ * /actuator/health and liveness ignore the status and stay UP. Details show the
+ * warm-up's latency curve: the median iteration time of each round, in
+ * microseconds.
+ */
+@Component
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    static final Status WARMING_UP = new Status("WARMING_UP", "JIT warm-up in progress");
+
+    private final List<Long> roundMediansMicros = new ArrayList<>();
+    private volatile boolean complete;
+    private volatile String outcome;
+
+    public WarmupHealthIndicator(@Value("${task.warmup.enabled:true}") boolean enabled) {
+        this.complete = !enabled;
+        this.outcome = enabled ? "running" : "disabled";
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = complete ? Health.up() : Health.status(WARMING_UP);
+        synchronized (roundMediansMicros) {
+            return builder
+                    .withDetail("warmup", outcome)
+                    .withDetail("rounds", roundMediansMicros.size())
+                    .withDetail("roundMedianMicros", List.copyOf(roundMediansMicros))
+                    .build();
+        }
+    }
+
+    void recordRound(long medianMicros) {
+        synchronized (roundMediansMicros) {
+            roundMediansMicros.add(medianMicros);
+        }
+    }
+
+    /**
+     * Mark the warm-up finished; readiness turns UP whatever the outcome
+     * @param outcome why it finished: stable, max-rounds, timeout or failed
+     */
+    void complete(String outcome) {
+        this.outcome = outcome;
+        this.complete = true;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+}
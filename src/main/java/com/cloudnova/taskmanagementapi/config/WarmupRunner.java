@@ -0,0 +1,206 @@
+package com.cloudnova.taskmanagementapi.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import com.cloudnova.taskmanagementapi.controller.TaskController;
+import com.cloudnova.taskmanagementapi.dto.ApiResponse;
+import com.cloudnova.taskmanagementapi.dto.TaskCreateRequest;
+import com.cloudnova.taskmanagementapi.dto.TaskResponse;
+import com.cloudnova.taskmanagementapi.dto.TaskUpdateRequest;
+import com.cloudnova.taskmanagementapi.tenant.TenantContext;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * WarmupRunner - Exercises the hot request path at startup until its latency is stable
+ *
+ * Fresh JVMs run the TaskController -> TaskService -> Hibernate -> Jackson
+ * path interpreted until the JIT has compiled it, so the first requests are
+ * many times slower than steady state. This runner calls the controller
+ * methods of the hot endpoints (create, list, filter, search, get, update,
+ * complete, statistics) and serializes their responses with the application's
+ * ObjectMapper, in a background thread, while {@link WarmupHealthIndicator}
+ * keeps readiness DOWN.
+ *
+ * Each round seeds synthetic tasks for a reserved tenant and runs a fixed
+ * number of iterations inside one transaction that is rolled back: nothing is
+ * persisted, and after-commit listeners (indexes, caches, history) never see
+ * the synthetic tasks. The rolled back inserts still use up IDENTITY values,
+ * so the first real task's ID comes after them. Log events below WARN for the
+ * reserved tenant are dropped while the warm-up runs. The warm-up ends when
+ * the median iteration time of consecutive rounds changes by less than the
+ * tolerance, or at the round or time limit.
+ */
+@Component
+@Order(20)
+@ConditionalOnProperty(prefix = "task.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmupRunner.class);
+
+    // Never a valid X-Tenant-Id (see TenantFilter), so no client can see or collide with it
+    static final String WARMUP_TENANT = "warm-up!";
+
+    private final TaskController taskController;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final WarmupHealthIndicator healthIndicator;
+    private final int seedTasks;
+    private final int iterationsPerRound;
+    private final int stableRounds;
+    private final double tolerance;
+    private final int maxRounds;
+    private final Duration maxDuration;
+
+    @Autowired
+    public WarmupRunner(TaskController taskController,
+                        ObjectMapper objectMapper,
+                        PlatformTransactionManager transactionManager,
+                        WarmupHealthIndicator healthIndicator,
+                        @Value("${task.warmup.seed-tasks:25}") int seedTasks,
+                        @Value("${task.warmup.iterations-per-round:20}") int iterationsPerRound,
+                        @Value("${task.warmup.stable-rounds:3}") int stableRounds,
+                        @Value("${task.warmup.tolerance:0.1}") double tolerance,
+                        @Value("${task.warmup.max-rounds:200}") int maxRounds,
+                        @Value("${task.warmup.max-duration:60s}") Duration maxDuration) {
+        this.taskController = taskController;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.healthIndicator = healthIndicator;
+        // Every iteration updates and completes its own task
+        this.seedTasks = Math.max(seedTasks, iterationsPerRound);
+        this.iterationsPerRound = iterationsPerRound;
+        this.stableRounds = stableRounds;
+        this.tolerance = tolerance;
+        this.maxRounds = maxRounds;
+        this.maxDuration = maxDuration;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Thread.ofPlatform().name("jit-warmup").daemon().start(this::warmUp);
+    }
+
+    private void warmUp() {
+        long start = System.nanoTime();
+        long deadline = start + maxDuration.toNanos();
+        String outcome = "max-rounds";
+        LoggerContext loggerContext = LoggerFactory.getILoggerFactory() instanceof LoggerContext context ? context : null;
+        TurboFilter quiet = new WarmupTenantLogFilter();
+        if (loggerContext != null) {
+            loggerContext.addTurboFilter(quiet);
+        }
+        try {
+            long previous = -1;
+            int stable = 0;
+            for (int round = 0; round < maxRounds; round++) {
+                final int r = round;
+                long median = TenantContext.callAs(WARMUP_TENANT,
+                        () -> transactionTemplate.execute(status -> {
+                            status.setRollbackOnly();
+                            return runRound(r);
+                        }));
+                healthIndicator.recordRound(median / 1_000);
+
+                stable = previous > 0 && Math.abs(median - previous) <= previous * tolerance ? stable + 1 : 0;
+                previous = median;
+                if (stable >= stableRounds) {
+                    outcome = "stable";
+                    break;
+                }
+                if (System.nanoTime() > deadline) {
+                    outcome = "timeout";
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            outcome = "failed";
+            logger.warn("JIT warm-up failed, marking the instance ready anyway", e);
+        } finally {
+            if (loggerContext != null) {
+                loggerContext.getTurboFilterList().remove(quiet);
+            }
+        }
+
+        healthIndicator.complete(outcome);
+        logger.info("JIT warm-up finished ({}) in {} ms; round medians (us): {}", outcome,
+                (System.nanoTime() - start) / 1_000_000, healthIndicator.health().getDetails().get("roundMedianMicros"));
+    }
+
+    /**
+     * Seed synthetic tasks, then time the iterations
+     * @return the median iteration time in nanoseconds
+     */
+    private long runRound(int round) {
+        List<Long> ids = new ArrayList<>(seedTasks);
+        for (int i = 0; i < seedTasks; i++) {
+            TaskCreateRequest request = new TaskCreateRequest("Warm-up task " + round + "-" + i,
+                    "Synthetic task for JIT warm-up", i % 2 == 0 ? "TODO" : "IN_PROGRESS");
+            request.setTags(List.of("warmup", "round-" + (i % 3)));
+            ResponseEntity<ApiResponse<TaskResponse>> created = taskController.createTask(request);
+            serialize(created);
+            ids.add(created.getBody().getData().getId());
+        }
+
+        long[] timings = new long[iterationsPerRound];
+        for (int i = 0; i < iterationsPerRound; i++) {
+            Long id = ids.get(i % ids.size());
+            long iterationStart = System.nanoTime();
+            serialize(taskController.getAllTasks(null, null, false, null, null, null, null, null, null, null));
+            serialize(taskController.getAllTasks("TODO", null, false, null, null, null, null, null, null, null));
+            serialize(taskController.getAllTasks(null, "warm-up", false, null, null, null, null, null, null, null));
+            serialize(taskController.searchTasks("synthetic", null));
+            serialize(taskController.getTaskById(id));
+            serialize(taskController.updateTask(id, new TaskUpdateRequest("Warm-up task " + round + "-" + (i % ids.size()),
+                    "Updated synthetic task", "IN_PROGRESS")));
+            serialize(taskController.completeTask(id));
+            serialize(taskController.getTaskStatistics());
+            timings[i] = System.nanoTime() - iterationStart;
+        }
+
+        Arrays.sort(timings);
+        return timings[timings.length / 2];
+    }
+
+    /**
+     * Drops log events below WARN logged for the warm-up tenant, so every round's
+     * synthetic creates, updates and completions stay out of the log
+     */
+    static final class WarmupTenantLogFilter extends TurboFilter {
+
+        @Override
+        public FilterReply decide(Marker marker, ch.qos.logback.classic.Logger logger, Level level,
+                                  String format, Object[] params, Throwable t) {
+            return level != null && !level.isGreaterOrEqual(Level.WARN)
+                    && WARMUP_TENANT.equals(TenantContext.current()) ? FilterReply.DENY : FilterReply.NEUTRAL;
+        }
+    }
+
+    private void serialize(ResponseEntity<?> response) {
+        try {
+            objectMapper.writeValueAsBytes(response.getBody());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Warm-up response could not be serialized", e);
+        }
+    }
+}
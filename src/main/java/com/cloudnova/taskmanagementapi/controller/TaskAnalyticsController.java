@@ -0,0 +1,83 @@
+package com.cloudnova.taskmanagementapi.controller;
+
+import com.cloudnova.taskmanagementapi.dto.ApiResponse;
+import com.cloudnova.taskmanagementapi.dto.TaskAnalyticsResponse;
+import com.cloudnova.taskmanagementapi.repository.bulkhead.Workload;
+import com.cloudnova.taskmanagementapi.repository.bulkhead.WorkloadContext;
+import com.cloudnova.taskmanagementapi.service.TaskAnalyticsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * TaskAnalyticsController - REST API Controller for task throughput analytics
+ *
+ * Base URL: /api/v1/tasks/analytics
+ */
+@RestController
+@RequestMapping("/tasks/analytics")
+@CrossOrigin(origins = "*")
+public class TaskAnalyticsController {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskAnalyticsController.class);
+
+    private final TaskAnalyticsService analyticsService;
+
+    @Autowired
+    public TaskAnalyticsController(TaskAnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    /**
+     * GET /api/v1/tasks/analytics
+     * Tasks created / completed / cancelled, cycle time and backlog per bucket
+     *
+     * @param from range start (ISO date-time), defaults to 7 days before {@code to}
+     * @param to range end (ISO date-time), defaults to now
+     * @param bucket HOUR or DAY, defaults to DAY
+     * @return bucketed analytics
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<TaskAnalyticsResponse>> getAnalytics(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String bucket) {
+
+        logger.debug("GET /tasks/analytics - from: {}, to: {}, bucket: {}", from, to, bucket);
+
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(7);
+
+        TaskAnalyticsResponse analytics = analyticsService.getAnalytics(
+                start, end, TaskAnalyticsService.Bucket.fromString(bucket));
+
+        ApiResponse<TaskAnalyticsResponse> response = ApiResponse.success(
+                analytics,
+                "Task analytics retrieved successfully"
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * POST /api/v1/tasks/analytics/backfill
+     * Rebuild the analytics rollups from the tasks table
+     *
+     * @return success message
+     */
+    @PostMapping("/backfill")
+    public ResponseEntity<ApiResponse<Void>> backfill() {
+
+        logger.debug("POST /tasks/analytics/backfill");
+
+        WorkloadContext.runAs(Workload.BACKGROUND, analyticsService::backfill);
+
+        ApiResponse<Void> response = ApiResponse.success(null, "Task analytics backfilled successfully");
+        return ResponseEntity.ok(response);
+    }
+}
@@ -3,7 +3,13 @@ package com.cloudnova.taskmanagementapi.controller;
 import com.cloudnova.taskmanagementapi.dto.TaskCreateRequest;
 import com.cloudnova.taskmanagementapi.dto.TaskUpdateRequest;
 import com.cloudnova.taskmanagementapi.dto.TaskResponse;
+import com.cloudnova.taskmanagementapi.dto.TaskSearchResponse;
+import com.cloudnova.taskmanagementapi.dto.TaskLookupRequest;
+import com.cloudnova.taskmanagementapi.dto.TaskLookupResponse;
 import com.cloudnova.taskmanagementapi.dto.ApiResponse;
+import com.cloudnova.taskmanagementapi.dto.TaskField;
+import com.cloudnova.taskmanagementapi.dto.TaskFilter;
+import com.cloudnova.taskmanagementapi.dto.TaskSort;
 import com.cloudnova.taskmanagementapi.model.Task;
 import com.cloudnova.taskmanagementapi.model.TaskStatus;
 import com.cloudnova.taskmanagementapi.service.TaskService;
@@ -11,11 +17,16 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -54,37 +65,381 @@ public class TaskController {
 
     /**
      * GET /api/v1/tasks
-     * Retrieve all tasks or filter by status
+     * Retrieve all tasks, filtered by status and/or search keyword
      *
-     * @param status optional status filter
+     * Any of createdAfter/createdBefore/updatedAfter/updatedBefore, sort,
+     * direction or limit, or more than one status, switches to the combined
+     * filter, which is sorted and limited; see {@link TaskService#filterTasks}.
+     *
+     * @param status optional status filter, or comma-separated statuses; combined with the search if both are given
      * @param search optional search keyword
+     * @param includeArchived whether to include archived (old completed/cancelled) tasks; not combinable with the filter
+     * @param createdAfter optional inclusive lower bound of createdAt
+     * @param createdBefore optional exclusive upper bound of createdAt
+     * @param updatedAfter optional inclusive lower bound of updatedAt
+     * @param updatedBefore optional exclusive upper bound of updatedAt
+     * @param sort optional sort field: createdAt (default), updatedAt, title or id
+     * @param direction optional sort direction: asc or desc (default)
+     * @param limit optional maximum number of tasks
      * @return list of tasks
      */
     @GetMapping
     public ResponseEntity<ApiResponse<List<TaskResponse>>> getAllTasks(
             @RequestParam(required = false) String status,
-            @RequestParam(required = false) String search) {
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdAfter,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdBefore,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedAfter,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedBefore,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String direction,
+            @RequestParam(required = false) Integer limit) {
+
+        logger.debug("GET /tasks - status: {}, search: {}, includeArchived: {}", status, search, includeArchived);
+
+        Set<TaskStatus> statuses = TaskFilter.parseStatuses(status);
+        TaskFilter filter = toFilter(statuses, search, createdAfter, createdBefore, updatedAfter, updatedBefore,
+                sort, direction, limit);
+        List<Task> tasks = findTasks(filter, statuses, search, includeArchived);
 
-        logger.debug("GET /tasks - status: {}, search: {}", status, search);
+        List<TaskResponse> taskResponses = tasks.stream()
+                .map(TaskResponse::fromTask)
+                .collect(Collectors.toList());
 
-        List<Task> tasks;
+        ApiResponse<List<TaskResponse>> response = ApiResponse.success(
+                taskResponses,
+                "Tasks retrieved successfully"
+        );
 
-        if (search != null && !search.trim().isEmpty()) {
-            tasks = taskService.searchTasks(search);
-        } else if (status != null && !status.trim().isEmpty()) {
-            TaskStatus taskStatus = TaskStatus.fromString(status);
-            tasks = taskService.getTasksByStatus(taskStatus);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * GET /api/v1/tasks?tag=backend&tag=urgent&status=IN_PROGRESS&page=0&size=100
+     * Retrieve one page of the tasks that have every given tag
+     *
+     * Answered from the in-memory tag and status bitmaps; the total number of
+     * matches is returned in the X-Total-Count header.
+     *
+     * @param tags the required tags (repeat the parameter or comma-separate)
+     * @param status optional status filter
+     * @param page zero-based page number
+     * @param size page size
+     * @return the page of tasks, in creation order
+     */
+    @GetMapping(params = {"tag", "!ids"})
+    public ResponseEntity<ApiResponse<List<TaskResponse>>> getTasksByTags(
+            @RequestParam("tag") List<String> tags,
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size) {
+
+        logger.debug("GET /tasks - tags: {}, status: {}, page: {}, size: {}", tags, status, page, size);
+
+        TaskStatus taskStatus = status != null && !status.trim().isEmpty()
+                ? TaskStatus.fromString(status)
+                : null;
+
+        TaskService.TaggedPage result = taskService.getTasksByTags(tags, taskStatus, page, size);
+
+        List<TaskResponse> taskResponses = result.getTasks().stream()
+                .map(TaskResponse::fromTask)
+                .collect(Collectors.toList());
+
+        ApiResponse<List<TaskResponse>> response = ApiResponse.success(
+                taskResponses,
+                "Tasks retrieved successfully"
+        );
+
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(result.getTotalCount()))
+                .body(response);
+    }
+
+    /**
+     * GET /api/v1/tasks?fields=id,title,status
+     * Retrieve tasks with only the requested fields (sparse fieldset)
+     *
+     * Takes every parameter of the full list. A plain list (at most one
+     * status and a keyword) pushes the field list down into the database
+     * query, so unrequested columns are neither read nor serialized; the
+     * combined filter and includeArchived load the tasks as the full list does
+     * and return only the requested fields.
+     *
+     * @param fields comma-separated field names
+     * @return list of field maps
+     * @see #getAllTasks for the other parameters
+     */
+    @GetMapping(params = {"fields", "!ids", "!tag"})
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getAllTaskFields(
+            @RequestParam String fields,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdAfter,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdBefore,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedAfter,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedBefore,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String direction,
+            @RequestParam(required = false) Integer limit) {
+
+        logger.debug("GET /tasks - fields: {}, status: {}, search: {}, includeArchived: {}",
+                fields, status, search, includeArchived);
+
+        Set<TaskField> taskFields = TaskField.parse(fields);
+        Set<TaskStatus> statuses = TaskFilter.parseStatuses(status);
+        TaskFilter filter = toFilter(statuses, search, createdAfter, createdBefore, updatedAfter, updatedBefore,
+                sort, direction, limit);
+
+        List<Map<String, Object>> rows;
+        if (filter == null && !includeArchived) {
+            TaskStatus taskStatus = statuses.isEmpty() ? null : statuses.iterator().next();
+            rows = taskService.getTaskFields(taskFields, taskStatus, search);
         } else {
-            tasks = taskService.getAllTasks();
+            rows = project(findTasks(filter, statuses, search, includeArchived), taskFields);
         }
 
-        List<TaskResponse> taskResponses = tasks.stream()
+        ApiResponse<List<Map<String, Object>>> response = ApiResponse.success(
+                rows,
+                "Tasks retrieved successfully"
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * GET /api/v1/tasks?tag=backend&fields=id,title
+     * Retrieve one page of the tasks that have every given tag, with only the requested fields
+     *
+     * @param tags the required tags (repeat the parameter or comma-separate)
+     * @param fields comma-separated field names
+     * @param status optional status filter
+     * @param page zero-based page number
+     * @param size page size
+     * @return the page of field maps, in creation order
+     */
+    @GetMapping(params = {"tag", "fields", "!ids"})
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getTaskFieldsByTags(
+            @RequestParam("tag") List<String> tags,
+            @RequestParam String fields,
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size) {
+
+        logger.debug("GET /tasks - tags: {}, fields: {}, status: {}, page: {}, size: {}", tags, fields, status, page, size);
+
+        Set<TaskField> taskFields = TaskField.parse(fields);
+        TaskStatus taskStatus = status != null && !status.trim().isEmpty()
+                ? TaskStatus.fromString(status)
+                : null;
+
+        TaskService.TaggedPage result = taskService.getTasksByTags(tags, taskStatus, page, size);
+
+        ApiResponse<List<Map<String, Object>>> response = ApiResponse.success(
+                project(result.getTasks(), taskFields),
+                "Tasks retrieved successfully"
+        );
+
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(result.getTotalCount()))
+                .body(response);
+    }
+
+    /**
+     * GET /api/v1/tasks?ids=1,2,3
+     * Retrieve many tasks by ID in one call
+     *
+     * @param ids comma-separated task IDs
+     * @return the found tasks in request order and the IDs that were not found
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<ApiResponse<TaskLookupResponse<TaskResponse>>> getTasksByIds(@RequestParam List<Long> ids) {
+
+        logger.debug("GET /tasks - ids: {}", ids.size());
+
+        ApiResponse<TaskLookupResponse<TaskResponse>> response = ApiResponse.success(
+                TaskLookupResponse.fromResult(taskService.getTasksByIds(ids)),
+                "Tasks retrieved successfully"
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * GET /api/v1/tasks?ids=1,2,3&fields=id,title
+     * Retrieve many tasks by ID in one call, with only the requested fields
+     *
+     * @param ids comma-separated task IDs
+     * @param fields comma-separated field names
+     * @return the found tasks' field maps in request order and the IDs that were not found
+     */
+    @GetMapping(params = {"ids", "fields"})
+    public ResponseEntity<ApiResponse<TaskLookupResponse<Map<String, Object>>>> getTaskFieldsByIds(
+            @RequestParam List<Long> ids,
+            @RequestParam String fields) {
+
+        logger.debug("GET /tasks - ids: {}, fields: {}", ids.size(), fields);
+
+        Set<TaskField> taskFields = TaskField.parse(fields);
+        ApiResponse<TaskLookupResponse<Map<String, Object>>> response = ApiResponse.success(
+                TaskLookupResponse.fromResult(taskService.getTasksByIds(ids), taskFields),
+                "Tasks retrieved successfully"
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * POST /api/v1/tasks/lookup
+     * Retrieve many tasks by ID, for ID lists too long for a query string
+     *
+     * @param lookupRequest the task IDs
+     * @return the found tasks in request order and the IDs that were not found
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<ApiResponse<TaskLookupResponse<TaskResponse>>> lookupTasks(
+            @Valid @RequestBody TaskLookupRequest lookupRequest) {
+
+        logger.debug("POST /tasks/lookup - ids: {}", lookupRequest.getIds().size());
+
+        ApiResponse<TaskLookupResponse<TaskResponse>> response = ApiResponse.success(
+                TaskLookupResponse.fromResult(taskService.getTasksByIds(lookupRequest.getIds())),
+                "Tasks retrieved successfully"
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * POST /api/v1/tasks/lookup?fields=id,title
+     * Retrieve many tasks by ID with only the requested fields
+     *
+     * @param lookupRequest the task IDs
+     * @param fields comma-separated field names
+     * @return the found tasks' field maps in request order and the IDs that were not found
+     */
+    @PostMapping(value = "/lookup", params = "fields")
+    public ResponseEntity<ApiResponse<TaskLookupResponse<Map<String, Object>>>> lookupTaskFields(
+            @Valid @RequestBody TaskLookupRequest lookupRequest,
+            @RequestParam String fields) {
+
+        logger.debug("POST /tasks/lookup - ids: {}, fields: {}", lookupRequest.getIds().size(), fields);
+
+        Set<TaskField> taskFields = TaskField.parse(fields);
+        ApiResponse<TaskLookupResponse<Map<String, Object>>> response = ApiResponse.success(
+                TaskLookupResponse.fromResult(taskService.getTasksByIds(lookupRequest.getIds()), taskFields),
+                "Tasks retrieved successfully"
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * GET /api/v1/tasks/search
+     * Search tasks and return per-status and creation-date facet counts
+     *
+     * @param q the search keyword
+     * @param status optional status filter
+     * @return matching tasks with facet counts
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<TaskSearchResponse<TaskResponse>>> searchTasks(
+            @RequestParam String q,
+            @RequestParam(required = false) String status) {
+
+        logger.debug("GET /tasks/search - q: {}, status: {}", q, status);
+
+        TaskStatus taskStatus = status != null && !status.trim().isEmpty()
+                ? TaskStatus.fromString(status)
+                : null;
+
+        TaskSearchResponse<TaskResponse> result = TaskSearchResponse.fromResult(
+                taskService.searchTasksWithFacets(q, taskStatus));
+
+        ApiResponse<TaskSearchResponse<TaskResponse>> response = ApiResponse.success(
+                result,
+                "Tasks retrieved successfully"
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * GET /api/v1/tasks/search?q=report&fields=id,title
+     * Search tasks with facet counts, returning only the requested fields
+     *
+     * @param q the search keyword
+     * @param fields comma-separated field names
+     * @param status optional status filter
+     * @return matching tasks' field maps with facet counts
+     */
+    @GetMapping(value = "/search", params = "fields")
+    public ResponseEntity<ApiResponse<TaskSearchResponse<Map<String, Object>>>> searchTaskFields(
+            @RequestParam String q,
+            @RequestParam String fields,
+            @RequestParam(required = false) String status) {
+
+        logger.debug("GET /tasks/search - q: {}, fields: {}, status: {}", q, fields, status);
+
+        Set<TaskField> taskFields = TaskField.parse(fields);
+        TaskStatus taskStatus = status != null && !status.trim().isEmpty()
+                ? TaskStatus.fromString(status)
+                : null;
+
+        ApiResponse<TaskSearchResponse<Map<String, Object>>> response = ApiResponse.success(
+                TaskSearchResponse.fromResult(taskService.searchTasksWithFacets(q, taskStatus), taskFields),
+                "Tasks retrieved successfully"
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * GET /api/v1/tasks/next?limit=10
+     * Retrieve the open tasks to work on next
+     *
+     * @param limit the number of tasks (1-100, default 10)
+     * @return open tasks by priority (highest first), then due date (earliest first)
+     */
+    @GetMapping("/next")
+    public ResponseEntity<ApiResponse<List<TaskResponse>>> getNextTasks(
+            @RequestParam(defaultValue = "10") int limit) {
+
+        logger.debug("GET /tasks/next - limit: {}", limit);
+
+        List<TaskResponse> taskResponses = taskService.getNextTasks(limit).stream()
                 .map(TaskResponse::fromTask)
                 .collect(Collectors.toList());
 
         ApiResponse<List<TaskResponse>> response = ApiResponse.success(
                 taskResponses,
-                "Tasks retrieved successfully"
+                "Next tasks retrieved successfully"
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * GET /api/v1/tasks/next?limit=10&fields=id,title,priority
+     * Retrieve the open tasks to work on next, with only the requested fields
+     *
+     * @param fields comma-separated field names
+     * @param limit the number of tasks (1-100, default 10)
+     * @return field maps of open tasks by priority (highest first), then due date (earliest first)
+     */
+    @GetMapping(value = "/next", params = "fields")
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getNextTaskFields(
+            @RequestParam String fields,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        logger.debug("GET /tasks/next - fields: {}, limit: {}", fields, limit);
+
+        Set<TaskField> taskFields = TaskField.parse(fields);
+        ApiResponse<List<Map<String, Object>>> response = ApiResponse.success(
+                project(taskService.getNextTasks(limit), taskFields),
+                "Next tasks retrieved successfully"
         );
 
         return ResponseEntity.ok(response);
@@ -113,6 +468,29 @@ public class TaskController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * GET /api/v1/tasks/{id}?fields=id,title,status
+     * Retrieve a specific task with only the requested fields
+     *
+     * @param id the task ID
+     * @param fields comma-separated field names
+     * @return the task's field map
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getTaskFieldsById(
+            @PathVariable Long id,
+            @RequestParam String fields) {
+
+        logger.debug("GET /tasks/{} - fields: {}", id, fields);
+
+        ApiResponse<Map<String, Object>> response = ApiResponse.success(
+                taskService.getTaskFieldsById(id, TaskField.parse(fields)),
+                "Task retrieved successfully"
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * POST /api/v1/tasks
      * Create a new task
@@ -230,4 +608,66 @@ public class TaskController {
 
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    /**
+     * The combined filter for the list parameters, or null if none of its
+     * parameters is given and at most one status is requested
+     */
+    private static TaskFilter toFilter(Set<TaskStatus> statuses, String search,
+                                       LocalDateTime createdAfter, LocalDateTime createdBefore,
+                                       LocalDateTime updatedAfter, LocalDateTime updatedBefore,
+                                       String sort, String direction, Integer limit) {
+        boolean filtered = statuses.size() > 1
+                || createdAfter != null || createdBefore != null
+                || updatedAfter != null || updatedBefore != null
+                || sort != null || direction != null || limit != null;
+        if (!filtered) {
+            return null;
+        }
+
+        TaskFilter filter = new TaskFilter();
+        filter.setStatuses(statuses);
+        filter.setKeyword(search);
+        filter.setCreatedAfter(createdAfter);
+        filter.setCreatedBefore(createdBefore);
+        filter.setUpdatedAfter(updatedAfter);
+        filter.setUpdatedBefore(updatedBefore);
+        if (sort != null) {
+            filter.setSort(TaskSort.fromString(sort));
+        }
+        if (direction != null) {
+            filter.setDirection(Sort.Direction.fromString(direction));
+        }
+        filter.setLimit(limit);
+        return filter;
+    }
+
+    /**
+     * The tasks of a list request: the combined filter if given, otherwise the
+     * status and/or keyword list, optionally with archived tasks
+     */
+    private List<Task> findTasks(TaskFilter filter, Set<TaskStatus> statuses, String search,
+                                 boolean includeArchived) {
+        if (filter != null) {
+            if (includeArchived) {
+                throw new IllegalArgumentException("includeArchived cannot be combined with range, sort or limit filters");
+            }
+            return taskService.filterTasks(filter);
+        }
+
+        TaskStatus taskStatus = statuses.size() == 1 ? statuses.iterator().next() : null;
+        if (search != null && !search.trim().isEmpty()) {
+            return taskService.searchTasks(search, taskStatus, includeArchived);
+        } else if (taskStatus != null) {
+            return taskService.getTasksByStatus(taskStatus, includeArchived);
+        } else {
+            return taskService.getAllTasks(includeArchived);
+        }
+    }
+
+    private static List<Map<String, Object>> project(List<Task> tasks, Set<TaskField> fields) {
+        return tasks.stream()
+                .map(task -> TaskField.project(task, fields))
+                .collect(Collectors.toList());
+    }
+}
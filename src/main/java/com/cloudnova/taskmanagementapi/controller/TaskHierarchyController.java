@@ -0,0 +1,101 @@
+package com.cloudnova.taskmanagementapi.controller;
+
+import com.cloudnova.taskmanagementapi.dto.ApiResponse;
+import com.cloudnova.taskmanagementapi.dto.TaskMoveRequest;
+import com.cloudnova.taskmanagementapi.dto.TaskProgressResponse;
+import com.cloudnova.taskmanagementapi.dto.TaskResponse;
+import com.cloudnova.taskmanagementapi.service.TaskHierarchyService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * TaskHierarchyController - REST API Controller for epics and subtasks
+ *
+ * Base URL: /api/v1/tasks/{id}/...
+ */
+@RestController
+@RequestMapping("/tasks")
+@CrossOrigin(origins = "*")
+public class TaskHierarchyController {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskHierarchyController.class);
+
+    private final TaskHierarchyService hierarchyService;
+
+    @Autowired
+    public TaskHierarchyController(TaskHierarchyService hierarchyService) {
+        this.hierarchyService = hierarchyService;
+    }
+
+    /**
+     * GET /api/v1/tasks/{id}/descendants
+     * All subtasks of a task at any depth, children first
+     *
+     * @param id the task ID
+     * @return the descendants
+     */
+    @GetMapping("/{id}/descendants")
+    public ResponseEntity<ApiResponse<List<TaskResponse>>> getDescendants(@PathVariable Long id) {
+        logger.debug("GET /tasks/{}/descendants", id);
+
+        List<TaskResponse> descendants = hierarchyService.getDescendants(id).stream()
+                .map(TaskResponse::fromTask)
+                .toList();
+
+        ApiResponse<List<TaskResponse>> response = ApiResponse.success(
+                descendants,
+                "Descendants retrieved successfully"
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * GET /api/v1/tasks/{id}/progress
+     * Status counts over all subtasks of a task
+     *
+     * @param id the task ID
+     * @return the subtree rollup
+     */
+    @GetMapping("/{id}/progress")
+    public ResponseEntity<ApiResponse<TaskProgressResponse>> getProgress(@PathVariable Long id) {
+        logger.debug("GET /tasks/{}/progress", id);
+
+        TaskProgressResponse progress = TaskProgressResponse.fromCounts(id, hierarchyService.getProgress(id));
+
+        ApiResponse<TaskProgressResponse> response = ApiResponse.success(
+                progress,
+                "Task progress retrieved successfully"
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * PUT /api/v1/tasks/{id}/parent
+     * Move a task, with all its subtasks, under another task (or to the top level)
+     *
+     * @param id the task ID
+     * @param request the new parent ID, null for none
+     * @return the moved task
+     */
+    @PutMapping("/{id}/parent")
+    public ResponseEntity<ApiResponse<TaskResponse>> move(@PathVariable Long id,
+                                                          @RequestBody TaskMoveRequest request) {
+        logger.debug("PUT /tasks/{}/parent - parentId: {}", id, request.getParentId());
+
+        TaskResponse moved = TaskResponse.fromTask(hierarchyService.move(id, request.getParentId()));
+
+        ApiResponse<TaskResponse> response = ApiResponse.success(
+                moved,
+                "Task moved successfully"
+        );
+
+        return ResponseEntity.ok(response);
+    }
+}
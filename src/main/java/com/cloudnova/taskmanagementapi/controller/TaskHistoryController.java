@@ -0,0 +1,51 @@
+package com.cloudnova.taskmanagementapi.controller;
+
+import com.cloudnova.taskmanagementapi.dto.ApiResponse;
+import com.cloudnova.taskmanagementapi.dto.TaskHistoryResponse;
+import com.cloudnova.taskmanagementapi.service.TaskHistoryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * TaskHistoryController - REST API Controller for the audit history of tasks
+ *
+ * Base URL: /api/v1/tasks/{id}/history
+ */
+@RestController
+@RequestMapping("/tasks")
+@CrossOrigin(origins = "*")
+public class TaskHistoryController {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskHistoryController.class);
+
+    private final TaskHistoryService historyService;
+
+    @Autowired
+    public TaskHistoryController(TaskHistoryService historyService) {
+        this.historyService = historyService;
+    }
+
+    /**
+     * GET /api/v1/tasks/{id}/history
+     * Every recorded change of a task, oldest first
+     *
+     * @param id the task ID
+     * @return the changes, with the fields each one changed
+     */
+    @GetMapping("/{id}/history")
+    public ResponseEntity<ApiResponse<List<TaskHistoryResponse>>> getHistory(@PathVariable Long id) {
+        logger.debug("GET /tasks/{}/history", id);
+
+        ApiResponse<List<TaskHistoryResponse>> response = ApiResponse.success(
+                historyService.getHistory(id),
+                "Task history retrieved successfully"
+        );
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,111 @@
+package com.cloudnova.taskmanagementapi.controller;
+
+import com.cloudnova.taskmanagementapi.dto.ApiResponse;
+import com.cloudnova.taskmanagementapi.exception.ImportJobNotFoundException;
+import com.cloudnova.taskmanagementapi.service.ImportJob;
+import com.cloudnova.taskmanagementapi.service.TaskImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+
+/**
+ * TaskImportController - REST API Controller for bulk task imports
+ *
+ * The request body is streamed straight into the importer, so uploads of
+ * any size are processed with constant memory. The format is taken from the
+ * {@code format} parameter, or from the Content-Type ({@code text/csv} or
+ * {@code application/x-ndjson}) when the parameter is absent.
+ *
+ * Base URL: /api/v1/tasks/import
+ */
+@RestController
+@RequestMapping("/tasks/import")
+@CrossOrigin(origins = "*")
+public class TaskImportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskImportController.class);
+
+    private final TaskImportService importService;
+
+    @Autowired
+    public TaskImportController(TaskImportService importService) {
+        this.importService = importService;
+    }
+
+    /**
+     * POST /api/v1/tasks/import
+     * Import tasks from an NDJSON or CSV body
+     *
+     * @param format optional format override: ndjson or csv
+     * @param request the servlet request whose body is streamed
+     * @return the job report with per-row errors
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<ImportJob>> importTasks(
+            @RequestParam(required = false) String format,
+            HttpServletRequest request) throws IOException {
+
+        boolean csv = format != null && !format.trim().isEmpty()
+                ? "csv".equalsIgnoreCase(format.trim())
+                : request.getContentType() != null && request.getContentType().contains("csv");
+
+        logger.debug("POST /tasks/import - format: {}", csv ? "csv" : "ndjson");
+
+        Reader body = request.getReader();
+        ImportJob job = csv ? importService.importCsv(body) : importService.importNdjson(body);
+
+        if (job.getState() == ImportJob.State.FAILED) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("Import failed: " + job.getMessage(), job));
+        }
+
+        ApiResponse<ImportJob> response = ApiResponse.success(job, "Import completed");
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * GET /api/v1/tasks/import
+     * List recent import jobs, including those still running
+     *
+     * @return recent jobs
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<ImportJob>>> getImportJobs() {
+
+        logger.debug("GET /tasks/import");
+
+        ApiResponse<List<ImportJob>> response = ApiResponse.success(
+                importService.getJobs(),
+                "Import jobs retrieved successfully"
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * GET /api/v1/tasks/import/{jobId}
+     * Get progress and error report of an import job
+     *
+     * @param jobId the job ID
+     * @return the job report
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<ImportJob>> getImportJob(@PathVariable String jobId) {
+
+        logger.debug("GET /tasks/import/{}", jobId);
+
+        ImportJob job = importService.getJob(jobId)
+                .orElseThrow(() -> new ImportJobNotFoundException("Import job not found with ID: " + jobId));
+
+        ApiResponse<ImportJob> response = ApiResponse.success(job, "Import job retrieved successfully");
+        return ResponseEntity.ok(response);
+    }
+}
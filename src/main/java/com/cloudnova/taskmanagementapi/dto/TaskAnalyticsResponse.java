@@ -0,0 +1,78 @@
+package com.cloudnova.taskmanagementapi.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * TaskAnalyticsResponse - DTO for time-bucketed throughput and cycle-time analytics
+ */
+public class TaskAnalyticsResponse {
+
+    private String bucket;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private List<Bucket> buckets;
+
+    public TaskAnalyticsResponse() {}
+
+    public TaskAnalyticsResponse(String bucket, LocalDateTime from, LocalDateTime to, List<Bucket> buckets) {
+        this.bucket = bucket;
+        this.from = from;
+        this.to = to;
+        this.buckets = buckets;
+    }
+
+    public String getBucket() { return bucket; }
+    public void setBucket(String bucket) { this.bucket = bucket; }
+
+    public LocalDateTime getFrom() { return from; }
+    public void setFrom(LocalDateTime from) { this.from = from; }
+
+    public LocalDateTime getTo() { return to; }
+    public void setTo(LocalDateTime to) { this.to = to; }
+
+    public List<Bucket> getBuckets() { return buckets; }
+    public void setBuckets(List<Bucket> buckets) { this.buckets = buckets; }
+
+    /**
+     * Activity within one time bucket
+     */
+    public static class Bucket {
+        private LocalDateTime start;
+        private long created;
+        private long completed;
+        private long cancelled;
+        private long reopened;
+        private Double averageCycleTimeHours;
+        private long backlog;
+
+        public Bucket() {}
+
+        public Bucket(LocalDateTime start) {
+            this.start = start;
+        }
+
+        public LocalDateTime getStart() { return start; }
+        public void setStart(LocalDateTime start) { this.start = start; }
+
+        public long getCreated() { return created; }
+        public void setCreated(long created) { this.created = created; }
+
+        public long getCompleted() { return completed; }
+        public void setCompleted(long completed) { this.completed = completed; }
+
+        public long getCancelled() { return cancelled; }
+        public void setCancelled(long cancelled) { this.cancelled = cancelled; }
+
+        public long getReopened() { return reopened; }
+        public void setReopened(long reopened) { this.reopened = reopened; }
+
+        /** Average time from creation to completion of tasks completed in this bucket, null if none */
+        public Double getAverageCycleTimeHours() { return averageCycleTimeHours; }
+        public void setAverageCycleTimeHours(Double averageCycleTimeHours) { this.averageCycleTimeHours = averageCycleTimeHours; }
+
+        /** Open (TODO / IN_PROGRESS) tasks at the end of this bucket */
+        public long getBacklog() { return backlog; }
+        public void setBacklog(long backlog) { this.backlog = backlog; }
+    }
+}
@@ -1,11 +1,14 @@
 package com.cloudnova.taskmanagementapi.dto;
 
 import com.cloudnova.taskmanagementapi.model.Task;
+import com.cloudnova.taskmanagementapi.model.TaskPriority;
 import com.cloudnova.taskmanagementapi.model.TaskStatus;
+import com.cloudnova.taskmanagementapi.model.TaskTags;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * TaskCreateRequest - DTO for creating new tasks
@@ -21,6 +24,14 @@ public class TaskCreateRequest {
 
     private String status;
 
+    private String priority;
+
+    private LocalDateTime dueAt;
+
+    private List<String> tags;
+
+    private Long parentId;
+
     public TaskCreateRequest() {}
 
     public TaskCreateRequest(String title, String description) {
@@ -45,6 +56,11 @@ public class TaskCreateRequest {
             task.setStatus(TaskStatus.TODO);
         }
 
+        task.setPriority(TaskPriority.fromString(this.priority));
+        task.setDueAt(this.dueAt);
+        task.setTags(TaskTags.normalize(this.tags));
+        task.setParentId(this.parentId);
+
         return task;
     }
 
@@ -56,4 +72,16 @@ public class TaskCreateRequest {
 
     public String getStatus() { return status; }
     public void setStatus(String status) { this.status = status; }
+
+    public String getPriority() { return priority; }
+    public void setPriority(String priority) { this.priority = priority; }
+
+    public LocalDateTime getDueAt() { return dueAt; }
+    public void setDueAt(LocalDateTime dueAt) { this.dueAt = dueAt; }
+
+    public List<String> getTags() { return tags; }
+    public void setTags(List<String> tags) { this.tags = tags; }
+
+    public Long getParentId() { return parentId; }
+    public void setParentId(Long parentId) { this.parentId = parentId; }
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.cloudnova.taskmanagementapi.dto;
+
+import com.cloudnova.taskmanagementapi.model.Task;
+import com.cloudnova.taskmanagementapi.model.TaskPriority;
+import com.cloudnova.taskmanagementapi.model.TaskStatus;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * TaskField - Selectable fields of a task for sparse fieldsets (?fields=)
+ *
+ * Each field names the JPQL path it is read from, so a sparse request selects
+ * only those columns instead of loading the whole entity. Reads that already
+ * have the entities (filters, archive, tags, lookups) project them with
+ * {@link #project(Task, Set)} instead.
+ */
+public enum TaskField {
+    ID("id", "t.id", Task::getId, Function.identity()),
+    TITLE("title", "t.title", Task::getTitle, Function.identity()),
+    DESCRIPTION("description", "t.description", Task::getDescription, Function.identity()),
+    STATUS("status", "t.status", Task::getStatus, value -> ((TaskStatus) value).name()),
+    STATUS_DISPLAY("statusDisplay", "t.status", Task::getStatus, value -> ((TaskStatus) value).getDisplayName()),
+    PRIORITY("priority", "t.priority", Task::getPriority, value -> ((TaskPriority) value).name()),
+    DUE_AT("dueAt", "t.dueAt", Task::getDueAt, Function.identity()),
+    TAGS("tags", "t.tags", Task::getTags, Function.identity()),
+    PARENT_ID("parentId", "t.parentId", Task::getParentId, Function.identity()),
+    CREATED_AT("createdAt", "t.createdAt", Task::getCreatedAt, Function.identity()),
+    UPDATED_AT("updatedAt", "t.updatedAt", Task::getUpdatedAt, Function.identity());
+
+    private final String jsonName;
+    private final String path;
+    private final Function<Task, Object> getter;
+    private final Function<Object, Object> formatter;
+
+    TaskField(String jsonName, String path, Function<Task, Object> getter, Function<Object, Object> formatter) {
+        this.jsonName = jsonName;
+        this.path = path;
+        this.getter = getter;
+        this.formatter = formatter;
+    }
+
+    public String getJsonName() { return jsonName; }
+    public String getPath() { return path; }
+
+    public Object format(Object value) {
+        return value == null ? null : formatter.apply(value);
+    }
+
+    /**
+     * Project a loaded task onto the given fields
+     * @param task the task
+     * @param fields the fields to keep
+     * @return an ordered map of JSON field name to value, as the column-selective query returns
+     */
+    public static Map<String, Object> project(Task task, Set<TaskField> fields) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (TaskField field : fields) {
+            map.put(field.jsonName, field.format(field.getter.apply(task)));
+        }
+        return map;
+    }
+
+    /**
+     * Parse a comma-separated field list such as "id,title,status"
+     * @param fields the requested field names (JSON names, case-sensitive)
+     * @return the fields in declaration order
+     * @throws IllegalArgumentException if a name is unknown or the list is empty
+     */
+    public static Set<TaskField> parse(String fields) {
+        Set<TaskField> parsed = EnumSet.noneOf(TaskField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            parsed.add(Arrays.stream(values())
+                    .filter(f -> f.jsonName.equals(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown field: " + trimmed
+                            + ". Valid fields: " + Arrays.stream(values())
+                            .map(TaskField::getJsonName).collect(Collectors.joining(",")))));
+        }
+        if (parsed.isEmpty()) {
+            throw new IllegalArgumentException("At least one field must be requested");
+        }
+        return parsed;
+    }
+}
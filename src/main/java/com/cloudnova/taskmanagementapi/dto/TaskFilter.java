@@ -0,0 +1,83 @@
+package com.cloudnova.taskmanagementapi.dto;
+
+import com.cloudnova.taskmanagementapi.model.TaskStatus;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * TaskFilter - Combined filter, sort and limit for GET /tasks
+ *
+ * Time ranges are half-open: "after" bounds are inclusive, "before" bounds
+ * exclusive. An empty status set means all statuses.
+ */
+public class TaskFilter {
+
+    private Set<TaskStatus> statuses = EnumSet.noneOf(TaskStatus.class);
+    private String keyword;
+    private LocalDateTime createdAfter;
+    private LocalDateTime createdBefore;
+    private LocalDateTime updatedAfter;
+    private LocalDateTime updatedBefore;
+    private TaskSort sort = TaskSort.CREATED_AT;
+    private Sort.Direction direction = Sort.Direction.DESC;
+    private Integer limit;
+
+    public TaskFilter() {}
+
+    /**
+     * Parse a comma-separated status list such as "TODO,IN_PROGRESS"
+     * @param value the status list, may be null or blank
+     * @return the statuses, empty for no filter
+     * @throws IllegalArgumentException if a status is unknown
+     */
+    public static Set<TaskStatus> parseStatuses(String value) {
+        Set<TaskStatus> statuses = EnumSet.noneOf(TaskStatus.class);
+        if (value != null) {
+            Arrays.stream(value.split(","))
+                    .map(String::trim)
+                    .filter(s -> !s.isEmpty())
+                    .map(TaskStatus::fromString)
+                    .forEach(statuses::add);
+        }
+        return statuses;
+    }
+
+    public Set<TaskStatus> getStatuses() { return statuses; }
+    public void setStatuses(Set<TaskStatus> statuses) { this.statuses = statuses; }
+
+    public String getKeyword() { return keyword; }
+    public void setKeyword(String keyword) { this.keyword = keyword; }
+
+    public LocalDateTime getCreatedAfter() { return createdAfter; }
+    public void setCreatedAfter(LocalDateTime createdAfter) { this.createdAfter = createdAfter; }
+
+    public LocalDateTime getCreatedBefore() { return createdBefore; }
+    public void setCreatedBefore(LocalDateTime createdBefore) { this.createdBefore = createdBefore; }
+
+    public LocalDateTime getUpdatedAfter() { return updatedAfter; }
+    public void setUpdatedAfter(LocalDateTime updatedAfter) { this.updatedAfter = updatedAfter; }
+
+    public LocalDateTime getUpdatedBefore() { return updatedBefore; }
+    public void setUpdatedBefore(LocalDateTime updatedBefore) { this.updatedBefore = updatedBefore; }
+
+    public TaskSort getSort() { return sort; }
+    public void setSort(TaskSort sort) { this.sort = sort; }
+
+    public Sort.Direction getDirection() { return direction; }
+    public void setDirection(Sort.Direction direction) { this.direction = direction; }
+
+    public Integer getLimit() { return limit; }
+    public void setLimit(Integer limit) { this.limit = limit; }
+
+    @Override
+    public String toString() {
+        return "TaskFilter{statuses=" + statuses + ", keyword='" + keyword + "'" +
+                ", created=[" + createdAfter + ", " + createdBefore + ")" +
+                ", updated=[" + updatedAfter + ", " + updatedBefore + ")" +
+                ", sort=" + sort.getProperty() + " " + direction + ", limit=" + limit + "}";
+    }
+}
@@ -0,0 +1,93 @@
+package com.cloudnova.taskmanagementapi.dto;
+
+import com.cloudnova.taskmanagementapi.model.TaskHistoryEntry;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * TaskHistoryResponse - DTO for one change in a task's history
+ *
+ * changes maps each field that differs from the previous snapshot to its old
+ * and new value. The first entry of a task compares against nothing, so it
+ * lists every field that was set.
+ */
+public class TaskHistoryResponse {
+
+    // Compared fields, by JSON name, in TaskResponse order
+    private static final Map<String, Function<TaskHistoryEntry, Object>> FIELDS = new LinkedHashMap<>();
+
+    static {
+        FIELDS.put("title", TaskHistoryEntry::getTitle);
+        FIELDS.put("description", TaskHistoryEntry::getDescription);
+        FIELDS.put("status", entry -> entry.getStatus() == null ? null : entry.getStatus().name());
+        FIELDS.put("priority", entry -> entry.getPriority() == null ? null : entry.getPriority().name());
+        FIELDS.put("dueAt", TaskHistoryEntry::getDueAt);
+        FIELDS.put("tags", TaskHistoryEntry::getTags);
+        FIELDS.put("parentId", TaskHistoryEntry::getParentId);
+    }
+
+    private Long taskId;
+    private String type;
+    private LocalDateTime occurredAt;
+    private Map<String, FieldChange> changes;
+
+    public TaskHistoryResponse() {}
+
+    public TaskHistoryResponse(Long taskId, String type, LocalDateTime occurredAt, Map<String, FieldChange> changes) {
+        this.taskId = taskId;
+        this.type = type;
+        this.occurredAt = occurredAt;
+        this.changes = changes;
+    }
+
+    /**
+     * The change from one snapshot of a task to the next
+     * @param previous the previous snapshot, or null for the first one
+     * @param entry the snapshot after the change
+     */
+    public static TaskHistoryResponse between(TaskHistoryEntry previous, TaskHistoryEntry entry) {
+        Map<String, FieldChange> changes = new LinkedHashMap<>();
+        for (Map.Entry<String, Function<TaskHistoryEntry, Object>> field : FIELDS.entrySet()) {
+            Object from = previous == null ? null : field.getValue().apply(previous);
+            Object to = field.getValue().apply(entry);
+            if (!Objects.equals(from, to)) {
+                changes.put(field.getKey(), new FieldChange(from, to));
+            }
+        }
+        return new TaskHistoryResponse(entry.getTaskId(), entry.getType().name(), entry.getOccurredAt(), changes);
+    }
+
+    // Getters and Setters
+    public Long getTaskId() { return taskId; }
+    public void setTaskId(Long taskId) { this.taskId = taskId; }
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+    public void setOccurredAt(LocalDateTime occurredAt) { this.occurredAt = occurredAt; }
+    public Map<String, FieldChange> getChanges() { return changes; }
+    public void setChanges(Map<String, FieldChange> changes) { this.changes = changes; }
+
+    /**
+     * Old and new value of one field
+     */
+    public static class FieldChange {
+        private Object from;
+        private Object to;
+
+        public FieldChange() {}
+
+        public FieldChange(Object from, Object to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        public Object getFrom() { return from; }
+        public void setFrom(Object from) { this.from = from; }
+        public Object getTo() { return to; }
+        public void setTo(Object to) { this.to = to; }
+    }
+}
@@ -0,0 +1,23 @@
+package com.cloudnova.taskmanagementapi.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * TaskLookupRequest - DTO for fetching many tasks by ID in one call
+ */
+public class TaskLookupRequest {
+
+    @NotEmpty(message = "At least one ID is required")
+    private List<Long> ids;
+
+    public TaskLookupRequest() {}
+
+    public TaskLookupRequest(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public List<Long> getIds() { return ids; }
+    public void setIds(List<Long> ids) { this.ids = ids; }
+}
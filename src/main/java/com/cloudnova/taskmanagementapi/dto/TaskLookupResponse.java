@@ -0,0 +1,49 @@
+package com.cloudnova.taskmanagementapi.dto;
+
+import com.cloudnova.taskmanagementapi.service.TaskService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * TaskLookupResponse - DTO for multi-get results
+ *
+ * Tasks are in request order; IDs that matched no task are listed in
+ * missingIds instead of failing the whole call.
+ *
+ * @param <T> the task representation: TaskResponse, or a field map for ?fields=
+ */
+public class TaskLookupResponse<T> {
+
+    private List<T> tasks;
+    private List<Long> missingIds;
+
+    public TaskLookupResponse() {}
+
+    public TaskLookupResponse(List<T> tasks, List<Long> missingIds) {
+        this.tasks = tasks;
+        this.missingIds = missingIds;
+    }
+
+    public static TaskLookupResponse<TaskResponse> fromResult(TaskService.LookupResult result) {
+        return new TaskLookupResponse<>(
+                result.getTasks().stream().map(TaskResponse::fromTask).toList(),
+                result.getMissingIds()
+        );
+    }
+
+    public static TaskLookupResponse<Map<String, Object>> fromResult(TaskService.LookupResult result,
+                                                                     Set<TaskField> fields) {
+        return new TaskLookupResponse<>(
+                result.getTasks().stream().map(task -> TaskField.project(task, fields)).toList(),
+                result.getMissingIds()
+        );
+    }
+
+    public List<T> getTasks() { return tasks; }
+    public void setTasks(List<T> tasks) { this.tasks = tasks; }
+
+    public List<Long> getMissingIds() { return missingIds; }
+    public void setMissingIds(List<Long> missingIds) { this.missingIds = missingIds; }
+}
@@ -0,0 +1,20 @@
+package com.cloudnova.taskmanagementapi.dto;
+
+/**
+ * TaskMoveRequest - DTO for moving a task (with its subtasks) under a new parent
+ *
+ * A null parentId makes the task a root.
+ */
+public class TaskMoveRequest {
+
+    private Long parentId;
+
+    public TaskMoveRequest() {}
+
+    public TaskMoveRequest(Long parentId) {
+        this.parentId = parentId;
+    }
+
+    public Long getParentId() { return parentId; }
+    public void setParentId(Long parentId) { this.parentId = parentId; }
+}
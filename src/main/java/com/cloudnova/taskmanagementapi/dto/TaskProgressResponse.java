@@ -0,0 +1,56 @@
+package com.cloudnova.taskmanagementapi.dto;
+
+import com.cloudnova.taskmanagementapi.model.TaskStatus;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * TaskProgressResponse - DTO for the status rollup of a task's subtree
+ *
+ * Counts cover all descendants, not the task itself. percentComplete counts
+ * cancelled subtasks as done, and is 0 for a task without subtasks.
+ */
+public class TaskProgressResponse {
+
+    private Long taskId;
+    private long totalCount;
+    private Map<String, Long> statusCounts;
+    private double percentComplete;
+
+    public TaskProgressResponse() {}
+
+    public TaskProgressResponse(Long taskId, long totalCount, Map<String, Long> statusCounts, double percentComplete) {
+        this.taskId = taskId;
+        this.totalCount = totalCount;
+        this.statusCounts = statusCounts;
+        this.percentComplete = percentComplete;
+    }
+
+    public static TaskProgressResponse fromCounts(Long taskId, Map<TaskStatus, Long> counts) {
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        long total = 0;
+        long done = 0;
+        for (Map.Entry<TaskStatus, Long> entry : counts.entrySet()) {
+            statusCounts.put(entry.getKey().name(), entry.getValue());
+            total += entry.getValue();
+            if (entry.getKey().isTerminal()) {
+                done += entry.getValue();
+            }
+        }
+        double percent = total == 0 ? 0.0 : Math.round(done * 1000.0 / total) / 10.0;
+        return new TaskProgressResponse(taskId, total, statusCounts, percent);
+    }
+
+    public Long getTaskId() { return taskId; }
+    public void setTaskId(Long taskId) { this.taskId = taskId; }
+
+    public long getTotalCount() { return totalCount; }
+    public void setTotalCount(long totalCount) { this.totalCount = totalCount; }
+
+    public Map<String, Long> getStatusCounts() { return statusCounts; }
+    public void setStatusCounts(Map<String, Long> statusCounts) { this.statusCounts = statusCounts; }
+
+    public double getPercentComplete() { return percentComplete; }
+    public void setPercentComplete(double percentComplete) { this.percentComplete = percentComplete; }
+}
@@ -3,6 +3,7 @@ package com.cloudnova.taskmanagementapi.dto;
 import com.cloudnova.taskmanagementapi.model.Task;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * TaskResponse - DTO for task responses
@@ -14,18 +15,27 @@ public class TaskResponse {
     private String description;
     private String status;
     private String statusDisplay;
+    private String priority;
+    private LocalDateTime dueAt;
+    private List<String> tags;
+    private Long parentId;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
     public TaskResponse() {}
 
     public TaskResponse(Long id, String title, String description, String status,
-                        String statusDisplay, LocalDateTime createdAt, LocalDateTime updatedAt) {
+                        String statusDisplay, String priority, LocalDateTime dueAt,
+                        List<String> tags, Long parentId, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.title = title;
         this.description = description;
         this.status = status;
         this.statusDisplay = statusDisplay;
+        this.priority = priority;
+        this.dueAt = dueAt;
+        this.tags = tags;
+        this.parentId = parentId;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
@@ -37,6 +47,10 @@ public class TaskResponse {
                 task.getDescription(),
                 task.getStatus().name(),
                 task.getStatus().getDisplayName(),
+                task.getPriority().name(),
+                task.getDueAt(),
+                task.getTags() == null ? List.of() : List.copyOf(task.getTags()),
+                task.getParentId(),
                 task.getCreatedAt(),
                 task.getUpdatedAt()
         );
@@ -57,6 +71,18 @@ public class TaskResponse {
     public String getStatusDisplay() { return statusDisplay; }
     public void setStatusDisplay(String statusDisplay) { this.statusDisplay = statusDisplay; }
 
+    public String getPriority() { return priority; }
+    public void setPriority(String priority) { this.priority = priority; }
+
+    public LocalDateTime getDueAt() { return dueAt; }
+    public void setDueAt(LocalDateTime dueAt) { this.dueAt = dueAt; }
+
+    public List<String> getTags() { return tags; }
+    public void setTags(List<String> tags) { this.tags = tags; }
+
+    public Long getParentId() { return parentId; }
+    public void setParentId(Long parentId) { this.parentId = parentId; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
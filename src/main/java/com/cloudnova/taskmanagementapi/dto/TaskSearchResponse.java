@@ -0,0 +1,64 @@
+package com.cloudnova.taskmanagementapi.dto;
+
+import com.cloudnova.taskmanagementapi.model.Task;
+import com.cloudnova.taskmanagementapi.service.TaskService;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * TaskSearchResponse - DTO for search results with facet counts
+ *
+ * @param <T> the task representation: TaskResponse, or a field map for ?fields=
+ */
+public class TaskSearchResponse<T> {
+
+    private List<T> tasks;
+    private Map<String, Long> statusFacets;
+    private Map<String, Long> createdFacets;
+
+    public TaskSearchResponse() {}
+
+    public TaskSearchResponse(List<T> tasks, Map<String, Long> statusFacets,
+                              Map<String, Long> createdFacets) {
+        this.tasks = tasks;
+        this.statusFacets = statusFacets;
+        this.createdFacets = createdFacets;
+    }
+
+    public static TaskSearchResponse<TaskResponse> fromResult(TaskService.FacetedSearchResult result) {
+        return fromResult(result, TaskResponse::fromTask);
+    }
+
+    public static TaskSearchResponse<Map<String, Object>> fromResult(TaskService.FacetedSearchResult result,
+                                                                     Set<TaskField> fields) {
+        return fromResult(result, task -> TaskField.project(task, fields));
+    }
+
+    private static <T> TaskSearchResponse<T> fromResult(TaskService.FacetedSearchResult result,
+                                                        Function<Task, T> mapper) {
+        Map<String, Long> statusFacets = new LinkedHashMap<>();
+        result.getStatusCounts().forEach((status, count) -> statusFacets.put(status.name(), count));
+
+        Map<String, Long> createdFacets = new LinkedHashMap<>();
+        result.getCreatedCounts().forEach((range, count) -> createdFacets.put(range.name(), count));
+
+        return new TaskSearchResponse<>(
+                result.getTasks().stream().map(mapper).toList(),
+                statusFacets,
+                createdFacets
+        );
+    }
+
+    public List<T> getTasks() { return tasks; }
+    public void setTasks(List<T> tasks) { this.tasks = tasks; }
+
+    public Map<String, Long> getStatusFacets() { return statusFacets; }
+    public void setStatusFacets(Map<String, Long> statusFacets) { this.statusFacets = statusFacets; }
+
+    public Map<String, Long> getCreatedFacets() { return createdFacets; }
+    public void setCreatedFacets(Map<String, Long> createdFacets) { this.createdFacets = createdFacets; }
+}
@@ -0,0 +1,67 @@
+package com.cloudnova.taskmanagementapi.dto;
+
+import com.cloudnova.taskmanagementapi.model.Task;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.Collectors;
+
+/**
+ * TaskSort - Sortable fields of a filtered task list (?sort=)
+ *
+ * Only fields some index can return in order are sortable, so no filter
+ * combination makes the database sort an unbounded result. Fields that follow
+ * status in an index are ordered within one status at a time; the others have
+ * an index of their own.
+ */
+public enum TaskSort {
+    // (tenant_id, status, created_at)
+    CREATED_AT("createdAt", true, Comparator.comparing(Task::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))),
+    // (tenant_id, status, updated_at)
+    UPDATED_AT("updatedAt", true, Comparator.comparing(Task::getUpdatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))),
+    // (tenant_id, title)
+    TITLE("title", false, Comparator.comparing(Task::getTitle)),
+    // primary key
+    ID("id", false, Comparator.comparing(Task::getId));
+
+    private final String property;
+    private final boolean indexedAfterStatus;
+    private final Comparator<Task> order;
+
+    TaskSort(String property, boolean indexedAfterStatus, Comparator<Task> order) {
+        this.property = property;
+        this.indexedAfterStatus = indexedAfterStatus;
+        this.order = order;
+    }
+
+    public String getProperty() { return property; }
+
+    /**
+     * Whether the only index ordered by this field leads with status, so it is
+     * ordered by this field only within a single status
+     */
+    public boolean isIndexedAfterStatus() { return indexedAfterStatus; }
+
+    /**
+     * The ascending in-memory order, with ID as tie-breaker like the query's ORDER BY
+     */
+    public Comparator<Task> ascending() {
+        return this == ID ? order : order.thenComparing(Task::getId);
+    }
+
+    /**
+     * Get TaskSort from its field name (case-sensitive, as in JSON)
+     * @param value the field name
+     * @return the sort field
+     * @throws IllegalArgumentException if the field is not sortable
+     */
+    public static TaskSort fromString(String value) {
+        for (TaskSort sort : values()) {
+            if (sort.property.equals(value)) {
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException("Cannot sort by '" + value + "'. Sortable fields: "
+                + Arrays.stream(values()).map(TaskSort::getProperty).collect(Collectors.joining(", ")));
+    }
+}
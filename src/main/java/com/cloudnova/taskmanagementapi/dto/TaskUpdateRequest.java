@@ -1,9 +1,14 @@
 package com.cloudnova.taskmanagementapi.dto;
 
 import com.cloudnova.taskmanagementapi.model.Task;
+import com.cloudnova.taskmanagementapi.model.TaskPriority;
 import com.cloudnova.taskmanagementapi.model.TaskStatus;
+import com.cloudnova.taskmanagementapi.model.TaskTags;
 import jakarta.validation.constraints.Size;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 /**
  * TaskUpdateRequest - DTO for updating existing tasks
  */
@@ -17,6 +22,12 @@ public class TaskUpdateRequest {
 
     private String status;
 
+    private String priority;
+
+    private LocalDateTime dueAt;
+
+    private List<String> tags;
+
     public TaskUpdateRequest() {}
 
     public TaskUpdateRequest(String title, String description, String status) {
@@ -34,6 +45,13 @@ public class TaskUpdateRequest {
             task.setStatus(TaskStatus.fromString(this.status));
         }
 
+        // Unset fields stay null so the update leaves them unchanged
+        task.setPriority(this.priority != null && !this.priority.trim().isEmpty()
+                ? TaskPriority.fromString(this.priority)
+                : null);
+        task.setDueAt(this.dueAt);
+        task.setTags(this.tags != null ? TaskTags.normalize(this.tags) : null);
+
         return task;
     }
 
@@ -45,4 +63,13 @@ public class TaskUpdateRequest {
 
     public String getStatus() { return status; }
     public void setStatus(String status) { this.status = status; }
-}
\ No newline at end of file
+
+    public String getPriority() { return priority; }
+    public void setPriority(String priority) { this.priority = priority; }
+
+    public LocalDateTime getDueAt() { return dueAt; }
+    public void setDueAt(LocalDateTime dueAt) { this.dueAt = dueAt; }
+
+    public List<String> getTags() { return tags; }
+    public void setTags(List<String> tags) { this.tags = tags; }
+}
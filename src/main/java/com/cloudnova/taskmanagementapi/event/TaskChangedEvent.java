@@ -0,0 +1,96 @@
+package com.cloudnova.taskmanagementapi.event;
+
+import com.cloudnova.taskmanagementapi.model.Task;
+import com.cloudnova.taskmanagementapi.model.TaskPriority;
+import com.cloudnova.taskmanagementapi.model.TaskStatus;
+import com.cloudnova.taskmanagementapi.tenant.TenantContext;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * TaskChangedEvent - Published by the service layer for every task write
+ *
+ * Published synchronously inside the writing transaction. Listeners that must
+ * only see committed changes use {@code @TransactionalEventListener}; listeners
+ * that update derived tables in the same transaction use {@code @EventListener}.
+ */
+public class TaskChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final String tenantId;
+    private final Long taskId;
+    private final String title;
+    private final String description;
+    private final Long parentId;
+    private final TaskStatus previousStatus;
+    private final TaskStatus status;
+    private final TaskPriority priority;
+    private final LocalDateTime dueAt;
+    private final Set<String> tags;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime occurredAt;
+
+    private TaskChangedEvent(Type type, Task task, TaskStatus previousStatus, TaskStatus status) {
+        this(type, task.getTenantId() != null ? task.getTenantId() : TenantContext.current(),
+                task.getId(), task.getTitle(), task.getDescription(), task.getParentId(), previousStatus, status,
+                task.getPriority(), task.getDueAt(), task.getTags(), task.getCreatedAt());
+    }
+
+    private TaskChangedEvent(Type type, String tenantId, Long taskId, String title, String description,
+                             Long parentId, TaskStatus previousStatus, TaskStatus status, TaskPriority priority,
+                             LocalDateTime dueAt, Set<String> tags, LocalDateTime createdAt) {
+        this.type = type;
+        this.tenantId = tenantId;
+        this.taskId = taskId;
+        this.title = title;
+        this.description = description;
+        this.parentId = parentId;
+        this.previousStatus = previousStatus;
+        this.status = status;
+        this.priority = priority;
+        this.dueAt = dueAt;
+        this.tags = tags;
+        this.createdAt = createdAt;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    public static TaskChangedEvent created(Task task) {
+        return new TaskChangedEvent(Type.CREATED, task, null, task.getStatus());
+    }
+
+    public static TaskChangedEvent updated(Task task, TaskStatus previousStatus) {
+        return new TaskChangedEvent(Type.UPDATED, task, previousStatus, task.getStatus());
+    }
+
+    public static TaskChangedEvent deleted(Task task) {
+        return new TaskChangedEvent(Type.DELETED, task, task.getStatus(), null);
+    }
+
+    public Type getType() { return type; }
+    public String getTenantId() { return tenantId; }
+    public Long getTaskId() { return taskId; }
+    public String getTitle() { return title; }
+    public String getDescription() { return description; }
+    public Long getParentId() { return parentId; }
+    public TaskStatus getPreviousStatus() { return previousStatus; }
+    public TaskStatus getStatus() { return status; }
+    public TaskPriority getPriority() { return priority; }
+    public LocalDateTime getDueAt() { return dueAt; }
+    public Set<String> getTags() { return tags; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+
+    /**
+     * Whether the task's status changed (including creation and deletion)
+     */
+    public boolean isStatusChange() {
+        return previousStatus != status;
+    }
+}
@@ -0,0 +1,31 @@
+package com.cloudnova.taskmanagementapi.event;
+
+import com.cloudnova.taskmanagementapi.model.TaskStatus;
+
+import java.util.Set;
+
+/**
+ * TasksArchivedEvent - Published by the archiver for every archived batch
+ *
+ * Published inside the batch transaction; listeners that must only see the
+ * committed move use {@code @TransactionalEventListener}.
+ * Archival is not a task change (status and content stay the same), so it is
+ * not reported as a {@link TaskChangedEvent}; it only moves rows between the
+ * tasks and archived_tasks tables.
+ */
+public class TasksArchivedEvent {
+
+    private final String tenantId;
+    private final int count;
+    private final Set<TaskStatus> statuses;
+
+    public TasksArchivedEvent(String tenantId, int count, Set<TaskStatus> statuses) {
+        this.tenantId = tenantId;
+        this.count = count;
+        this.statuses = statuses;
+    }
+
+    public String getTenantId() { return tenantId; }
+    public int getCount() { return count; }
+    public Set<TaskStatus> getStatuses() { return statuses; }
+}
@@ -3,15 +3,48 @@ package com.cloudnova.taskmanagementapi.exception;
 /**
  * DuplicateTaskException - Custom exception for duplicate task scenarios
  *
- * This exception is thrown when attempting to create a task with a title that already exists
+ * This exception is thrown when attempting to create a task with a title that already exists.
+ * It is a control-flow signal for a 409, so it records no stack trace, and
+ * {@link #forTitle(String)} builds its message only when the message is read.
  */
 public class DuplicateTaskException extends RuntimeException {
 
+    private final String title;
+    private String message;
+
+    private DuplicateTaskException(String title, String message, Throwable cause) {
+        super(message, cause, false, false);
+        this.title = title;
+        this.message = message;
+    }
+
     public DuplicateTaskException(String message) {
-        super(message);
+        this(null, message, null);
     }
 
     public DuplicateTaskException(String message, Throwable cause) {
-        super(message, cause);
+        this(null, message, cause);
+    }
+
+    /**
+     * Exception for a title that is already taken, message built on first use
+     */
+    public static DuplicateTaskException forTitle(String title) {
+        return new DuplicateTaskException(title, null, null);
+    }
+
+    /**
+     * @return the duplicate title, or null if created with a message
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    @Override
+    public String getMessage() {
+        if (message == null) {
+            message = "Task with title '" + title + "' already exists";
+        }
+        return message;
     }
-}
\ No newline at end of file
+}
@@ -3,6 +3,7 @@ package com.cloudnova.taskmanagementapi.exception;
 import com.cloudnova.taskmanagementapi.dto.ApiResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -10,7 +11,9 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -23,12 +26,22 @@ import java.util.Map;
  * - Different HTTP status codes for different exception types
  * - Validation error handling with detailed field-level messages
  * - Logging integration for error tracking
+ *
+ * Client errors (4xx) are logged at WARN through a {@link ThrottledWarnLog}:
+ * at most one line per exception type per task.errors.warn-log-interval,
+ * with a count of the occurrences in between. Server errors are always logged.
  */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    private final ThrottledWarnLog warnLog;
+
+    public GlobalExceptionHandler(@Value("${task.errors.warn-log-interval:10s}") Duration warnLogInterval) {
+        this.warnLog = new ThrottledWarnLog(logger, warnLogInterval);
+    }
+
     /**
      * Handle TaskNotFoundException
      * Returns 404 NOT FOUND
@@ -37,7 +50,21 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleTaskNotFoundException(
             TaskNotFoundException ex, WebRequest request) {
 
-        logger.warn("Task not found: {}", ex.getMessage());
+        warnLog.warn("Task not found", ex);
+
+        ApiResponse<Void> response = ApiResponse.error(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    }
+
+    /**
+     * Handle ImportJobNotFoundException
+     * Returns 404 NOT FOUND
+     */
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleImportJobNotFoundException(
+            ImportJobNotFoundException ex, WebRequest request) {
+
+        warnLog.warn("Import job not found", ex);
 
         ApiResponse<Void> response = ApiResponse.error(ex.getMessage());
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
@@ -51,7 +78,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleDuplicateTaskException(
             DuplicateTaskException ex, WebRequest request) {
 
-        logger.warn("Duplicate task: {}", ex.getMessage());
+        warnLog.warn("Duplicate task", ex);
 
         ApiResponse<Void> response = ApiResponse.error(ex.getMessage());
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
@@ -65,7 +92,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Map<String, String>>> handleValidationExceptions(
             MethodArgumentNotValidException ex) {
 
-        logger.warn("Validation failed: {}", ex.getMessage());
+        warnLog.warn("Validation failed", ex);
 
         Map<String, String> errors = new HashMap<>();
         ex.getBindingResult().getAllErrors().forEach((error) -> {
@@ -88,12 +115,42 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ApiResponse<Void>> handleIllegalArgumentException(
             IllegalArgumentException ex, WebRequest request) {
 
-        logger.warn("Invalid argument: {}", ex.getMessage());
+        warnLog.warn("Invalid argument", ex);
 
         ApiResponse<Void> response = ApiResponse.error(ex.getMessage());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    /**
+     * Handle request parameters and path variables that cannot be converted
+     * (e.g., ?createdAfter=notadate, ?ids=abc)
+     * Returns 400 BAD REQUEST
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ApiResponse<Void>> handleMethodArgumentTypeMismatchException(
+            MethodArgumentTypeMismatchException ex, WebRequest request) {
+
+        warnLog.warn("Invalid parameter", ex);
+
+        ApiResponse<Void> response = ApiResponse.error(
+                "Invalid value '" + ex.getValue() + "' for parameter '" + ex.getName() + "'");
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    /**
+     * Handle UnsupportedOperationException (e.g., a query the active backend cannot serve)
+     * Returns 501 NOT IMPLEMENTED
+     */
+    @ExceptionHandler(UnsupportedOperationException.class)
+    public ResponseEntity<ApiResponse<Void>> handleUnsupportedOperationException(
+            UnsupportedOperationException ex, WebRequest request) {
+
+        warnLog.warn("Unsupported operation", ex);
+
+        ApiResponse<Void> response = ApiResponse.error(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED).body(response);
+    }
+
     /**
      * Handle generic runtime exceptions
      * Returns 500 INTERNAL SERVER ERROR
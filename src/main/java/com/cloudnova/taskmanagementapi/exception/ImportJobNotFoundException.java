@@ -0,0 +1,13 @@
+package com.cloudnova.taskmanagementapi.exception;
+
+/**
+ * ImportJobNotFoundException - Custom exception for unknown import jobs
+ *
+ * This exception is thrown when a bulk import job ID is unknown or no longer retained
+ */
+public class ImportJobNotFoundException extends RuntimeException {
+
+    public ImportJobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -3,16 +3,48 @@ package com.cloudnova.taskmanagementapi.exception;
 /**
  * TaskNotFoundException - Custom exception for when a task is not found
  *
- * This exception is thrown when attempting to access a task that doesn't exist
+ * This exception is thrown when attempting to access a task that doesn't exist.
+ * It is a control-flow signal for a 404, so it records no stack trace, and
+ * {@link #forId(Long)} builds its message only when the message is read.
  */
 public class TaskNotFoundException extends RuntimeException {
 
+    private final Long id;
+    private String message;
+
+    private TaskNotFoundException(Long id, String message, Throwable cause) {
+        super(message, cause, false, false);
+        this.id = id;
+        this.message = message;
+    }
+
     public TaskNotFoundException(String message) {
-        super(message);
+        this(null, message, null);
     }
 
     public TaskNotFoundException(String message, Throwable cause) {
-        super(message, cause);
+        this(null, message, cause);
+    }
+
+    /**
+     * Exception for a missing task ID, message built on first use
+     */
+    public static TaskNotFoundException forId(Long id) {
+        return new TaskNotFoundException(id, null, null);
+    }
+
+    /**
+     * @return the missing task ID, or null if created with a message
+     */
+    public Long getId() {
+        return id;
     }
-}
 
+    @Override
+    public String getMessage() {
+        if (message == null) {
+            message = "Task not found with ID: " + id;
+        }
+        return message;
+    }
+}
@@ -0,0 +1,66 @@
+package com.cloudnova.taskmanagementapi.exception;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ThrottledWarnLog - At most one WARN line per exception type per interval
+ *
+ * A client retrying a stale task ID would otherwise cost one formatted log
+ * line per request. The first occurrence of each exception type in an
+ * interval is logged. Later ones in the same interval are only counted, and
+ * the count is appended to the next line logged for that type. A zero
+ * interval logs every occurrence.
+ */
+class ThrottledWarnLog {
+
+    private final Logger logger;
+    private final long intervalNanos;
+    private final Map<Class<?>, Window> windows = new ConcurrentHashMap<>();
+
+    ThrottledWarnLog(Logger logger, Duration interval) {
+        this.logger = logger;
+        this.intervalNanos = interval.toNanos();
+    }
+
+    /**
+     * Log "label: message" unless this exception type was logged within the interval
+     */
+    void warn(String label, Throwable ex) {
+        if (!logger.isWarnEnabled()) {
+            return;
+        }
+        if (intervalNanos <= 0) {
+            logger.warn("{}: {}", label, ex.getMessage());
+            return;
+        }
+
+        Window window = windows.computeIfAbsent(ex.getClass(), type -> new Window());
+        long now = System.nanoTime();
+        long lastLogged = window.lastLogged.get();
+        if (lastLogged != 0 && now - lastLogged < intervalNanos
+                || !window.lastLogged.compareAndSet(lastLogged, now)) {
+            window.suppressed.increment();
+            return;
+        }
+
+        long suppressed = window.suppressed.sumThenReset();
+        if (suppressed == 0) {
+            logger.warn("{}: {}", label, ex.getMessage());
+        } else {
+            logger.warn("{}: {} ({} more since the previous report {} ms ago)",
+                    label, ex.getMessage(), suppressed, (now - lastLogged) / 1_000_000);
+        }
+    }
+
+    private static final class Window {
+        // nanoTime of the last logged occurrence, 0 until the first one
+        final AtomicLong lastLogged = new AtomicLong();
+        final LongAdder suppressed = new LongAdder();
+    }
+}
@@ -0,0 +1,127 @@
+package com.cloudnova.taskmanagementapi.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.TenantId;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * ArchivedTask Entity - A completed or cancelled task moved out of the tasks table
+ *
+ * Keeps the original task ID, so lookups by ID can fall back to the archive.
+ * Archived tasks are read-only; they are only ever inserted by the archiver.
+ */
+@Entity
+@Table(name = "archived_tasks", indexes = {
+        @Index(name = "idx_archived_tasks_tenant_status_created_at", columnList = "tenant_id, status, created_at"),
+        @Index(name = "idx_archived_tasks_tenant_title", columnList = "tenant_id, title")
+})
+public class ArchivedTask implements Persistable<Long> {
+
+    @Id
+    private Long id;
+
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false,
+            columnDefinition = "varchar(64) default 'default' not null")
+    private String tenantId;
+
+    @Column(nullable = false, length = 100)
+    private String title;
+
+    @Column(length = 500)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, columnDefinition = "varchar(16) default 'MEDIUM' not null")
+    private TaskPriority priority;
+
+    @Column(name = "due_at")
+    private LocalDateTime dueAt;
+
+    @Convert(converter = TagSetConverter.class)
+    @Column(length = 340)
+    private Set<String> tags;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    // IDs are assigned from the original task, so tell Spring Data to persist
+    // instead of merging (which would first select every row)
+    @Transient
+    private boolean isNew = true;
+
+    public ArchivedTask() {}
+
+    /**
+     * Create the archive copy of a task
+     * @param task the task to archive
+     * @return the archived copy
+     */
+    public static ArchivedTask from(Task task) {
+        ArchivedTask archived = new ArchivedTask();
+        archived.id = task.getId();
+        archived.tenantId = task.getTenantId();
+        archived.title = task.getTitle();
+        archived.description = task.getDescription();
+        archived.status = task.getStatus();
+        archived.priority = task.getPriority();
+        archived.dueAt = task.getDueAt();
+        archived.tags = task.getTags();
+        archived.createdAt = task.getCreatedAt();
+        archived.updatedAt = task.getUpdatedAt();
+        archived.archivedAt = LocalDateTime.now();
+        return archived;
+    }
+
+    /**
+     * Detached Task view of this archived task, for the regular response DTOs
+     * @return a task that is not managed by the persistence context
+     */
+    public Task toTask() {
+        Task task = new Task(title, description, status);
+        task.setId(id);
+        task.setTenantId(tenantId);
+        task.setPriority(priority);
+        task.setDueAt(dueAt);
+        task.setTags(tags);
+        task.setCreatedAt(createdAt);
+        task.setUpdatedAt(updatedAt);
+        return task;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public Long getId() { return id; }
+
+    @Override
+    public boolean isNew() { return isNew; }
+
+    public String getTenantId() { return tenantId; }
+    public String getTitle() { return title; }
+    public String getDescription() { return description; }
+    public TaskStatus getStatus() { return status; }
+    public TaskPriority getPriority() { return priority; }
+    public LocalDateTime getDueAt() { return dueAt; }
+    public Set<String> getTags() { return tags; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public LocalDateTime getArchivedAt() { return archivedAt; }
+}
@@ -0,0 +1,33 @@
+package com.cloudnova.taskmanagementapi.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * TagSetConverter - Stores a task's tags as one comma-separated column
+ *
+ * Tags never contain commas (see {@link TaskTags}). One column keeps lists at
+ * a single query, with no collection table to join or fetch per task; tag
+ * filtering is served by the in-memory bitmap index, not by SQL.
+ */
+@Converter
+public class TagSetConverter implements AttributeConverter<Set<String>, String> {
+
+    @Override
+    public String convertToDatabaseColumn(Set<String> tags) {
+        return tags == null || tags.isEmpty() ? null : String.join(",", tags);
+    }
+
+    @Override
+    public Set<String> convertToEntityAttribute(String column) {
+        if (column == null || column.isEmpty()) {
+            return Collections.emptySortedSet();
+        }
+        return Collections.unmodifiableSet(new TreeSet<>(Arrays.asList(column.split(","))));
+    }
+}
@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.TenantId;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Set;
 
 /**
  * Task Entity - Represents a task in the system
@@ -15,13 +18,26 @@ import java.time.LocalDateTime;
  * - Proper encapsulation with getters and setters
  */
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        // Every query is tenant-scoped, so every index leads with tenant_id
+        @Index(name = "idx_tasks_tenant_status_created_at", columnList = "tenant_id, status, created_at"),
+        // Serves the archiver's scan for old COMPLETED / CANCELLED tasks
+        @Index(name = "idx_tasks_tenant_status_updated_at", columnList = "tenant_id, status, updated_at"),
+        // Serves the per-tenant title uniqueness check
+        @Index(name = "idx_tasks_tenant_title", columnList = "tenant_id, title")
+})
 public class Task {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Set by Hibernate from the current tenant on insert; all queries are filtered by it
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false,
+            columnDefinition = "varchar(64) default 'default' not null")
+    private String tenantId;
+
     @NotBlank(message = "Title is required")
     @Size(min = 1, max = 100, message = "Title must be between 1 and 100 characters")
     @Column(nullable = false, length = 100)
@@ -36,6 +52,22 @@ public class Task {
     @Column(nullable = false)
     private TaskStatus status;
 
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, columnDefinition = "varchar(16) default 'MEDIUM' not null")
+    private TaskPriority priority;
+
+    @Column(name = "due_at")
+    private LocalDateTime dueAt;
+
+    // Normalized labels (see TaskTags), stored comma-separated
+    @Convert(converter = TagSetConverter.class)
+    @Column(length = 340)
+    private Set<String> tags;
+
+    // Direct parent; the full hierarchy is in task_closure
+    @Column(name = "parent_id")
+    private Long parentId;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -45,6 +77,8 @@ public class Task {
     // Constructors
     public Task() {
         this.status = TaskStatus.TODO;
+        this.priority = TaskPriority.MEDIUM;
+        this.tags = Collections.emptySortedSet();
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
@@ -75,6 +109,14 @@ public class Task {
         this.id = id;
     }
 
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
     public String getTitle() {
         return title;
     }
@@ -100,6 +142,38 @@ public class Task {
         this.updatedAt = LocalDateTime.now();
     }
 
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(TaskPriority priority) {
+        this.priority = priority;
+    }
+
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+
+    public void setDueAt(LocalDateTime dueAt) {
+        this.dueAt = dueAt;
+    }
+
+    public Set<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(Set<String> tags) {
+        this.tags = tags;
+    }
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -124,6 +198,10 @@ public class Task {
                 ", title='" + title + '\'' +
                 ", description='" + description + '\'' +
                 ", status=" + status +
+                ", priority=" + priority +
+                ", dueAt=" + dueAt +
+                ", tags=" + tags +
+                ", parentId=" + parentId +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
                 '}';
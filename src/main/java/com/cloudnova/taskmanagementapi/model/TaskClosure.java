@@ -0,0 +1,82 @@
+package com.cloudnova.taskmanagementapi.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.TenantId;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * TaskClosure Entity - One ancestor/descendant pair of the task hierarchy
+ *
+ * The closure table holds a row for every pair of a task and each of its
+ * ancestors, with their distance, plus a depth-0 row for the task itself.
+ * Subtree reads, rollups and moves are then single set-based queries on
+ * ancestor_id or descendant_id instead of recursive walks.
+ *
+ * Only tasks that are, or have been, part of a hierarchy have rows; rows are
+ * written by {@link com.cloudnova.taskmanagementapi.repository.TaskClosureRepository}'s
+ * native statements.
+ */
+@Entity
+@IdClass(TaskClosure.Key.class)
+@Table(name = "task_closure", indexes = {
+        // Descendants and rollups of a task, nearest first
+        @Index(name = "idx_closure_tenant_ancestor_depth", columnList = "tenant_id, ancestor_id, depth"),
+        // Ancestors of a task, and the subtree links a move replaces
+        @Index(name = "idx_closure_tenant_descendant_depth", columnList = "tenant_id, descendant_id, depth")
+})
+public class TaskClosure {
+
+    @Id
+    @Column(name = "ancestor_id", nullable = false)
+    private Long ancestorId;
+
+    @Id
+    @Column(name = "descendant_id", nullable = false)
+    private Long descendantId;
+
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false,
+            columnDefinition = "varchar(64) default 'default' not null")
+    private String tenantId;
+
+    // 0 for the task itself, 1 for its parent, 2 for its grandparent, ...
+    @Column(nullable = false)
+    private int depth;
+
+    public TaskClosure() {}
+
+    public Long getAncestorId() { return ancestorId; }
+    public Long getDescendantId() { return descendantId; }
+    public String getTenantId() { return tenantId; }
+    public int getDepth() { return depth; }
+
+    /**
+     * Composite primary key: (ancestor, descendant)
+     */
+    public static class Key implements Serializable {
+
+        private Long ancestorId;
+        private Long descendantId;
+
+        public Key() {}
+
+        public Key(Long ancestorId, Long descendantId) {
+            this.ancestorId = ancestorId;
+            this.descendantId = descendantId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(ancestorId, key.ancestorId) && Objects.equals(descendantId, key.descendantId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(ancestorId, descendantId);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.cloudnova.taskmanagementapi.model;
+
+import com.cloudnova.taskmanagementapi.event.TaskChangedEvent;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.persistence.*;
+import org.hibernate.annotations.TenantId;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * TaskHistoryEntry Entity - One change of a task, as a snapshot of the task after it
+ *
+ * Append-only: rows are written by the history writer from committed task
+ * changes and never updated. Field-level changes are derived by comparing a
+ * snapshot with the previous one of the same task. Rows are kept after the
+ * task is deleted or archived.
+ *
+ * Serialized as JSON into the outbox; the ID and tenant come from the row
+ * the entry is finally inserted as.
+ */
+@JsonIgnoreProperties({"id", "tenantId"})
+@Entity
+@Table(name = "task_history", indexes = {
+        @Index(name = "idx_task_history_tenant_task_occurred_at", columnList = "tenant_id, task_id, occurred_at")
+})
+public class TaskHistoryEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false,
+            columnDefinition = "varchar(64) default 'default' not null")
+    private String tenantId;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private TaskChangedEvent.Type type;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(length = 100)
+    private String title;
+
+    @Column(length = 500)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    private TaskStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private TaskPriority priority;
+
+    @Column(name = "due_at")
+    private LocalDateTime dueAt;
+
+    @Convert(converter = TagSetConverter.class)
+    @Column(length = 340)
+    private Set<String> tags;
+
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    public TaskHistoryEntry() {}
+
+    /**
+     * Snapshot of the task carried by a change event
+     */
+    public static TaskHistoryEntry from(TaskChangedEvent event) {
+        TaskHistoryEntry entry = new TaskHistoryEntry();
+        entry.taskId = event.getTaskId();
+        entry.type = event.getType();
+        entry.occurredAt = event.getOccurredAt();
+        entry.title = event.getTitle();
+        entry.description = event.getDescription();
+        // A deleted task keeps its last status in the snapshot
+        entry.status = event.getStatus() != null ? event.getStatus() : event.getPreviousStatus();
+        entry.priority = event.getPriority();
+        entry.dueAt = event.getDueAt();
+        entry.tags = event.getTags();
+        entry.parentId = event.getParentId();
+        return entry;
+    }
+
+    public Long getId() { return id; }
+    public String getTenantId() { return tenantId; }
+    public Long getTaskId() { return taskId; }
+    public void setTaskId(Long taskId) { this.taskId = taskId; }
+    public TaskChangedEvent.Type getType() { return type; }
+    public void setType(TaskChangedEvent.Type type) { this.type = type; }
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+    public void setOccurredAt(LocalDateTime occurredAt) { this.occurredAt = occurredAt; }
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+    public TaskStatus getStatus() { return status; }
+    public void setStatus(TaskStatus status) { this.status = status; }
+    public TaskPriority getPriority() { return priority; }
+    public void setPriority(TaskPriority priority) { this.priority = priority; }
+    public LocalDateTime getDueAt() { return dueAt; }
+    public void setDueAt(LocalDateTime dueAt) { this.dueAt = dueAt; }
+    public Set<String> getTags() { return tags; }
+    public void setTags(Set<String> tags) { this.tags = tags; }
+    public Long getParentId() { return parentId; }
+    public void setParentId(Long parentId) { this.parentId = parentId; }
+}
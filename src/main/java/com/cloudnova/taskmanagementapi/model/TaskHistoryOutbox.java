@@ -0,0 +1,47 @@
+package com.cloudnova.taskmanagementapi.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.TenantId;
+
+import java.time.LocalDateTime;
+
+/**
+ * TaskHistoryOutbox Entity - A task change committed but not yet in task_history
+ *
+ * Inserted in the same transaction as the task change, so the change is
+ * durable even if the process dies before the history writer gets to it.
+ * The payload is the JSON of the {@link TaskHistoryEntry} to write. The writer
+ * deletes the row in the transaction that inserts the history entry; rows
+ * left behind are replayed by the outbox sweep.
+ */
+@Entity
+@Table(name = "task_history_outbox")
+public class TaskHistoryOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false,
+            columnDefinition = "varchar(64) default 'default' not null")
+    private String tenantId;
+
+    @Column(nullable = false, length = 2048)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public TaskHistoryOutbox() {}
+
+    public TaskHistoryOutbox(String payload) {
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public Long getId() { return id; }
+    public String getTenantId() { return tenantId; }
+    public String getPayload() { return payload; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
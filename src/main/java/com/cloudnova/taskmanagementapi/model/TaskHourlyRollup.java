@@ -0,0 +1,64 @@
+package com.cloudnova.taskmanagementapi.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.TenantId;
+
+import java.time.LocalDateTime;
+
+/**
+ * TaskHourlyRollup Entity - Pre-aggregated task activity for one hour
+ *
+ * Rows are maintained incrementally by the analytics listener on every
+ * task state transition, so analytics queries read one row per hour
+ * instead of scanning the tasks table.
+ */
+@Entity
+@Table(name = "task_hourly_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_rollup_tenant_bucket",
+                columnNames = {"tenant_id", "bucket_start"}))
+public class TaskHourlyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false,
+            columnDefinition = "varchar(64) default 'default' not null")
+    private String tenantId;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "created_count", nullable = false)
+    private long createdCount;
+
+    @Column(name = "completed_count", nullable = false)
+    private long completedCount;
+
+    @Column(name = "cancelled_count", nullable = false)
+    private long cancelledCount;
+
+    @Column(name = "reopened_count", nullable = false)
+    private long reopenedCount;
+
+    // Sum of createdAt -> completion durations of the tasks completed in this hour
+    @Column(name = "cycle_time_seconds", nullable = false)
+    private long cycleTimeSeconds;
+
+    // Net change of open (TODO / IN_PROGRESS) tasks during this hour
+    @Column(name = "backlog_delta", nullable = false)
+    private long backlogDelta;
+
+    public TaskHourlyRollup() {}
+
+    public Long getId() { return id; }
+    public String getTenantId() { return tenantId; }
+    public LocalDateTime getBucketStart() { return bucketStart; }
+    public long getCreatedCount() { return createdCount; }
+    public long getCompletedCount() { return completedCount; }
+    public long getCancelledCount() { return cancelledCount; }
+    public long getReopenedCount() { return reopenedCount; }
+    public long getCycleTimeSeconds() { return cycleTimeSeconds; }
+    public long getBacklogDelta() { return backlogDelta; }
+}
@@ -0,0 +1,49 @@
+package com.cloudnova.taskmanagementapi.model;
+
+/**
+ * TaskPriority Enum - How urgently a task should be worked on
+ *
+ * Declared from lowest to highest, so a higher ordinal means more urgent.
+ */
+public enum TaskPriority {
+    LOW("Low"),
+    MEDIUM("Medium"),
+    HIGH("High"),
+    URGENT("Urgent");
+
+    private final String displayName;
+
+    TaskPriority(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Get TaskPriority from string value (case-insensitive)
+     * @param value the string value to convert
+     * @return TaskPriority enum value
+     * @throws IllegalArgumentException if value doesn't match any priority
+     */
+    public static TaskPriority fromString(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return MEDIUM; // Default priority
+        }
+
+        for (TaskPriority priority : TaskPriority.values()) {
+            if (priority.name().equalsIgnoreCase(value.trim()) ||
+                    priority.displayName.equalsIgnoreCase(value.trim())) {
+                return priority;
+            }
+        }
+
+        throw new IllegalArgumentException("Invalid task priority: " + value);
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -25,6 +25,14 @@ public enum TaskStatus {
         return displayName;
     }
 
+    /**
+     * Whether this is an end state (COMPLETED or CANCELLED)
+     * @return true for terminal statuses
+     */
+    public boolean isTerminal() {
+        return this == COMPLETED || this == CANCELLED;
+    }
+
     /**
      * Get TaskStatus from string value (case-insensitive)
      * @param value the string value to convert
@@ -0,0 +1,56 @@
+package com.cloudnova.taskmanagementapi.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * TaskTags - Normalization and validation of task labels
+ *
+ * Tags are lower-cased, trimmed and de-duplicated. A tag is 1-32 characters
+ * of letters, digits, '-' and '_', and a task has at most 10 tags.
+ */
+public final class TaskTags {
+
+    public static final int MAX_TAGS = 10;
+
+    private static final Pattern TAG = Pattern.compile("[a-z0-9_-]{1,32}");
+
+    private TaskTags() {}
+
+    /**
+     * Normalize a tag list
+     * @param tags the tags as given, may be null
+     * @return the sorted, de-duplicated tags; empty for null
+     * @throws IllegalArgumentException if a tag is invalid or there are too many
+     */
+    public static Set<String> normalize(Collection<String> tags) {
+        if (tags == null) {
+            return Collections.emptySortedSet();
+        }
+        Set<String> normalized = new TreeSet<>();
+        for (String tag : tags) {
+            normalized.add(normalize(tag));
+        }
+        if (normalized.size() > MAX_TAGS) {
+            throw new IllegalArgumentException("A task can have at most " + MAX_TAGS + " tags");
+        }
+        return Collections.unmodifiableSet(normalized);
+    }
+
+    /**
+     * Normalize one tag
+     * @throws IllegalArgumentException if the tag is invalid
+     */
+    public static String normalize(String tag) {
+        String normalized = tag == null ? "" : tag.trim().toLowerCase(Locale.ROOT);
+        if (!TAG.matcher(normalized).matches()) {
+            throw new IllegalArgumentException("Invalid tag '" + tag
+                    + "'. Tags are 1-32 letters, digits, '-' or '_'");
+        }
+        return normalized;
+    }
+}
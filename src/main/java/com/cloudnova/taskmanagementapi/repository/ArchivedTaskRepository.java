@@ -0,0 +1,43 @@
+package com.cloudnova.taskmanagementapi.repository;
+
+import com.cloudnova.taskmanagementapi.model.ArchivedTask;
+import com.cloudnova.taskmanagementapi.model.TaskStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * ArchivedTaskRepository - Data Access Layer for archived (cold) tasks
+ */
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    List<ArchivedTask> findByStatusOrderByCreatedAtDesc(TaskStatus status);
+
+    boolean existsByTitle(String title);
+
+    @Query("SELECT a.title FROM ArchivedTask a WHERE a.title IN :titles")
+    List<String> findTitlesIn(@Param("titles") Collection<String> titles);
+
+    @Query("SELECT COUNT(a) FROM ArchivedTask a")
+    long countArchived();
+
+    /**
+     * All tenants that own archived tasks; native, so not restricted to the current tenant
+     */
+    @Query(value = "SELECT DISTINCT tenant_id FROM archived_tasks", nativeQuery = true)
+    List<String> findTenantIds();
+
+    @Query("SELECT a.createdAt, a.updatedAt, a.status FROM ArchivedTask a")
+    Stream<Object[]> streamLifecycle();
+
+    @Query("SELECT a FROM ArchivedTask a WHERE " +
+            "LOWER(a.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(a.description) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    List<ArchivedTask> searchByKeyword(@Param("keyword") String keyword);
+}
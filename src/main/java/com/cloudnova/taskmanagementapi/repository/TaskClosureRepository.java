@@ -0,0 +1,97 @@
+package com.cloudnova.taskmanagementapi.repository;
+
+import com.cloudnova.taskmanagementapi.model.Task;
+import com.cloudnova.taskmanagementapi.model.TaskClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * TaskClosureRepository - Data Access Layer for the task hierarchy closure table
+ *
+ * Reads are JPQL, so they are filtered by tenant like every other query. The
+ * writes are native set-based statements and take the tenant explicitly.
+ */
+@Repository
+public interface TaskClosureRepository extends JpaRepository<TaskClosure, TaskClosure.Key> {
+
+    /**
+     * All descendants of a task, nearest levels first
+     */
+    @Query("SELECT t FROM TaskClosure c JOIN Task t ON t.id = c.descendantId " +
+            "WHERE c.ancestorId = :id AND c.depth > 0 ORDER BY c.depth, t.id")
+    List<Task> findDescendants(@Param("id") Long id);
+
+    /**
+     * IDs of all descendants of a task, in {@link #findDescendants} order, without reading the tasks
+     */
+    @Query("SELECT c.descendantId FROM TaskClosure c " +
+            "WHERE c.ancestorId = :id AND c.depth > 0 ORDER BY c.depth, c.descendantId")
+    List<Long> findDescendantIds(@Param("id") Long id);
+
+    /**
+     * Descendant counts of a task by status
+     * @return rows of [TaskStatus, Long]
+     */
+    @Query("SELECT t.status, COUNT(t) FROM TaskClosure c JOIN Task t ON t.id = c.descendantId " +
+            "WHERE c.ancestorId = :id AND c.depth > 0 GROUP BY t.status")
+    List<Object[]> countDescendantsByStatus(@Param("id") Long id);
+
+    /**
+     * Rows with the task as ancestor: 0 outside any hierarchy, 1 for a leaf, more with descendants
+     */
+    long countByAncestorId(Long ancestorId);
+
+    /**
+     * Rows with the task as descendant: 0 outside any hierarchy, 1 for a root, more below a parent
+     */
+    long countByDescendantId(Long descendantId);
+
+    boolean existsByAncestorIdAndDescendantId(Long ancestorId, Long descendantId);
+
+    /**
+     * Add the depth-0 row of a task if it has none yet
+     */
+    @Modifying
+    @Query(value = "MERGE INTO task_closure c " +
+            "USING (VALUES (CAST(:tenant AS VARCHAR(64)), CAST(:id AS BIGINT))) AS d(tenant_id, id) " +
+            "ON c.ancestor_id = d.id AND c.descendant_id = d.id " +
+            "WHEN NOT MATCHED THEN INSERT (tenant_id, ancestor_id, descendant_id, depth) " +
+            "VALUES (d.tenant_id, d.id, d.id, 0)",
+            nativeQuery = true)
+    void insertSelf(@Param("tenant") String tenant, @Param("id") Long id);
+
+    /**
+     * Cut a subtree from its current ancestors, keeping the links inside it
+     */
+    @Modifying
+    @Query(value = "DELETE FROM task_closure WHERE tenant_id = :tenant " +
+            "AND descendant_id IN (SELECT s.descendant_id FROM task_closure s WHERE s.tenant_id = :tenant AND s.ancestor_id = :id) " +
+            "AND ancestor_id NOT IN (SELECT s.descendant_id FROM task_closure s WHERE s.tenant_id = :tenant AND s.ancestor_id = :id)",
+            nativeQuery = true)
+    int detachSubtree(@Param("tenant") String tenant, @Param("id") Long id);
+
+    /**
+     * Link every node of a subtree to the new parent and all of its ancestors
+     */
+    @Modifying
+    @Query(value = "INSERT INTO task_closure (tenant_id, ancestor_id, descendant_id, depth) " +
+            "SELECT :tenant, p.ancestor_id, s.descendant_id, p.depth + s.depth + 1 " +
+            "FROM task_closure p CROSS JOIN task_closure s " +
+            "WHERE p.tenant_id = :tenant AND p.descendant_id = :parent " +
+            "AND s.tenant_id = :tenant AND s.ancestor_id = :id",
+            nativeQuery = true)
+    int attachSubtree(@Param("tenant") String tenant, @Param("id") Long id, @Param("parent") Long parentId);
+
+    /**
+     * Remove a leaf task's rows: its depth-0 row and its links to its ancestors
+     */
+    @Modifying
+    @Query(value = "DELETE FROM task_closure WHERE tenant_id = :tenant AND descendant_id = :id",
+            nativeQuery = true)
+    int deleteLeaf(@Param("tenant") String tenant, @Param("id") Long id);
+}
@@ -0,0 +1,44 @@
+package com.cloudnova.taskmanagementapi.repository;
+
+import com.cloudnova.taskmanagementapi.model.TaskHistoryOutbox;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * TaskHistoryOutboxRepository - Data Access Layer for pending history entries
+ *
+ * The history writer and the outbox sweep both lock the rows they are about
+ * to move, so an entry is written to task_history exactly once.
+ */
+@Repository
+public interface TaskHistoryOutboxRepository extends JpaRepository<TaskHistoryOutbox, Long> {
+
+    /**
+     * Lock the given outbox rows; IDs already moved by the sweep are not returned
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o.id FROM TaskHistoryOutbox o WHERE o.id IN :ids")
+    List<Long> lockIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Lock a batch of outbox rows created before the cutoff, oldest first
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM TaskHistoryOutbox o WHERE o.createdAt < :cutoff ORDER BY o.id")
+    List<TaskHistoryOutbox> findPendingBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * All tenants with pending rows; native, so not restricted to the current tenant
+     */
+    @Query(value = "SELECT DISTINCT tenant_id FROM task_history_outbox", nativeQuery = true)
+    List<String> findTenantIds();
+}
@@ -0,0 +1,16 @@
+package com.cloudnova.taskmanagementapi.repository;
+
+import com.cloudnova.taskmanagementapi.model.TaskHistoryEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * TaskHistoryRepository - Data Access Layer for the task audit history
+ */
+@Repository
+public interface TaskHistoryRepository extends JpaRepository<TaskHistoryEntry, Long> {
+
+    List<TaskHistoryEntry> findByTaskIdOrderByOccurredAtAscIdAsc(Long taskId);
+}
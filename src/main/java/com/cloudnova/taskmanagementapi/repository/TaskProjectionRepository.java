@@ -0,0 +1,113 @@
+package com.cloudnova.taskmanagementapi.repository;
+
+import com.cloudnova.taskmanagementapi.dto.TaskField;
+import com.cloudnova.taskmanagementapi.model.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * TaskProjectionRepository - Column-selective task reads for sparse fieldsets
+ *
+ * Builds a JPQL select list from the requested {@link TaskField}s, so only
+ * those columns are read from the database and no entities are instantiated
+ * or tracked in the persistence context. Rows are returned as ordered maps of
+ * JSON field name to value.
+ */
+@Repository
+public class TaskProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Find tasks, optionally filtered, selecting only the given fields
+     * @param fields the fields to select
+     * @param status optional status filter; results are then ordered newest first
+     * @param keyword optional case-insensitive title/description keyword
+     * @return one map per task
+     */
+    public List<Map<String, Object>> findAll(Set<TaskField> fields, TaskStatus status, String keyword) {
+        StringBuilder jpql = new StringBuilder(select(fields)).append(" FROM Task t");
+        List<String> conditions = new ArrayList<>();
+        if (status != null) {
+            conditions.add("t.status = :status");
+        }
+        if (keyword != null) {
+            conditions.add("(LOWER(t.title) LIKE :pattern OR LOWER(t.description) LIKE :pattern)");
+        }
+        if (!conditions.isEmpty()) {
+            jpql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        if (status != null) {
+            jpql.append(" ORDER BY t.createdAt DESC");
+        }
+
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class);
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (keyword != null) {
+            query.setParameter("pattern", "%" + keyword.toLowerCase(Locale.ROOT) + "%");
+        }
+        return toMaps(query.getResultList(), fields);
+    }
+
+    /**
+     * Find one task selecting only the given fields
+     * @param id the task ID
+     * @param fields the fields to select
+     * @return the task's fields, if it exists
+     */
+    public Optional<Map<String, Object>> findById(Long id, Set<TaskField> fields) {
+        List<Tuple> rows = entityManager
+                .createQuery(select(fields) + " FROM Task t WHERE t.id = :id", Tuple.class)
+                .setParameter("id", id)
+                .getResultList();
+        return toMaps(rows, fields).stream().findFirst();
+    }
+
+    private static String select(Set<TaskField> fields) {
+        // status and statusDisplay share a column; select each path once
+        Set<String> paths = new LinkedHashSet<>();
+        fields.forEach(field -> paths.add(field.getPath()));
+
+        StringBuilder select = new StringBuilder("SELECT ");
+        int i = 0;
+        for (String path : paths) {
+            if (i > 0) {
+                select.append(", ");
+            }
+            select.append(path).append(" AS ").append(alias(path));
+            i++;
+        }
+        return select.toString();
+    }
+
+    private static String alias(String path) {
+        return "f_" + path.substring(path.indexOf('.') + 1);
+    }
+
+    private static List<Map<String, Object>> toMaps(List<Tuple> rows, Set<TaskField> fields) {
+        List<Map<String, Object>> result = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            for (TaskField field : fields) {
+                map.put(field.getJsonName(), field.format(row.get(alias(field.getPath()))));
+            }
+            result.add(map);
+        }
+        return result;
+    }
+}
@@ -2,14 +2,19 @@ package com.cloudnova.taskmanagementapi.repository;
 
 import com.cloudnova.taskmanagementapi.model.Task;
 import com.cloudnova.taskmanagementapi.model.TaskStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * TaskRepository - Data Access Layer for Task entities
@@ -19,32 +24,65 @@ import java.util.Optional;
  * - Automatic implementation by Spring IoC container
  * - Custom query methods using method naming conventions
  * - Custom JPQL queries for complex operations
+ * - Criteria queries composed from {@link TaskSpecifications}
  *
  * The @Repository annotation marks this as a Data Access Object (DAO)
  * Spring's IoC container will automatically create an implementation
  * and make it available for dependency injection.
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
 
     List<Task> findByStatus(TaskStatus status);
 
     List<Task> findByTitleContainingIgnoreCase(String keyword);
 
-    List<Task> findByCreatedAtAfter(LocalDateTime date);
-
     List<Task> findByStatusOrderByCreatedAtDesc(TaskStatus status);
 
     boolean existsByTitle(String title);
 
-    Optional<Task> findTopByOrderByCreatedAtDesc();
-
-    @Query("SELECT t FROM Task t WHERE t.status IN :statuses ORDER BY t.updatedAt DESC")
-    List<Task> findByStatusIn(@Param("statuses") List<TaskStatus> statuses);
+    @Query("SELECT t.title FROM Task t WHERE t.title IN :titles")
+    List<String> findTitlesIn(@Param("titles") Collection<String> titles);
 
     @Query("SELECT COUNT(t) FROM Task t WHERE t.status = :status")
     long countByStatus(@Param("status") TaskStatus status);
 
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.status IN :statuses")
+    long countByStatusIn(@Param("statuses") Collection<TaskStatus> statuses);
+
+    /**
+     * Ranking columns of the tasks in the given statuses, for the next-task index
+     */
+    @Query("SELECT t.id, t.priority, t.dueAt, t.createdAt FROM Task t WHERE t.status IN :statuses")
+    List<Object[]> findRanksByStatusIn(@Param("statuses") Collection<TaskStatus> statuses);
+
+    /**
+     * ID, status and tags of every task in ID order, for the tag bitmap index
+     */
+    @Query("SELECT t.id, t.status, t.tags FROM Task t ORDER BY t.id")
+    List<Object[]> findTagRows();
+
+    /**
+     * All tenants that own tasks; native, so not restricted to the current tenant
+     */
+    @Query(value = "SELECT DISTINCT tenant_id FROM tasks", nativeQuery = true)
+    List<String> findTenantIds();
+
+    @Query("SELECT t.createdAt, t.updatedAt, t.status FROM Task t")
+    Stream<Object[]> streamLifecycle();
+
+    /**
+     * Lock a batch of terminal tasks last updated before the cutoff, for archival
+     *
+     * Tasks in a hierarchy stay hot, so subtree queries and rollups stay complete.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Task t WHERE t.status IN :statuses AND t.updatedAt < :cutoff " +
+            "AND NOT EXISTS (SELECT c FROM TaskClosure c WHERE c.descendantId = t.id) ORDER BY t.id")
+    List<Task> findArchivable(@Param("statuses") Collection<TaskStatus> statuses,
+                              @Param("cutoff") LocalDateTime cutoff,
+                              Pageable pageable);
+
     @Query("SELECT t FROM Task t WHERE " +
             "LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
             "LOWER(t.description) LIKE LOWER(CONCAT('%', :keyword, '%'))")
@@ -0,0 +1,30 @@
+package com.cloudnova.taskmanagementapi.repository;
+
+import com.cloudnova.taskmanagementapi.model.TaskHourlyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * TaskRollupRepository - Data Access Layer for hourly analytics rollups
+ *
+ * Rows are written through {@link TaskRollupWriter#addToBucket}.
+ */
+@Repository
+public interface TaskRollupRepository extends JpaRepository<TaskHourlyRollup, Long>, TaskRollupWriter {
+
+    List<TaskHourlyRollup> findByBucketStartGreaterThanEqualAndBucketStartLessThanOrderByBucketStart(
+            LocalDateTime from, LocalDateTime to);
+
+    @Query("SELECT COALESCE(SUM(r.backlogDelta), 0) FROM TaskHourlyRollup r WHERE r.bucketStart >= :from")
+    long sumBacklogDeltaSince(@Param("from") LocalDateTime from);
+
+    @Modifying
+    @Query("DELETE FROM TaskHourlyRollup r WHERE r.tenantId = :tenant")
+    void deleteByTenant(@Param("tenant") String tenant);
+}
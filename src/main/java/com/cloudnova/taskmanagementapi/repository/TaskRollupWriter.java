@@ -0,0 +1,17 @@
+package com.cloudnova.taskmanagementapi.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * TaskRollupWriter - Upsert of hourly rollup rows, mixed into {@link TaskRollupRepository}
+ */
+public interface TaskRollupWriter {
+
+    /**
+     * Add deltas to a tenant's hourly rollup row, creating it if needed
+     *
+     * Native, so not covered by Hibernate's tenant filtering: the tenant is explicit.
+     */
+    void addToBucket(String tenant, LocalDateTime bucket, long created, long completed,
+                     long cancelled, long reopened, long cycleTimeSeconds, long backlogDelta);
+}
@@ -0,0 +1,60 @@
+package com.cloudnova.taskmanagementapi.repository.bulkhead;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * BulkheadProperties - Connection pool partitions per workload
+ *
+ * Bound from {@code task.bulkheads.*}. URL, credentials and driver are shared
+ * with {@code spring.datasource.*}; each workload gets its own bounded pool
+ * and acquisition timeout.
+ */
+@ConfigurationProperties(prefix = "task.bulkheads")
+public class BulkheadProperties {
+
+    private boolean enabled = true;
+    private Pool read = new Pool(10, Duration.ofSeconds(2));
+    private Pool write = new Pool(5, Duration.ofSeconds(5));
+    private Pool background = new Pool(3, Duration.ofSeconds(30));
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public Pool getRead() { return read; }
+    public void setRead(Pool read) { this.read = read; }
+
+    public Pool getWrite() { return write; }
+    public void setWrite(Pool write) { this.write = write; }
+
+    public Pool getBackground() { return background; }
+    public void setBackground(Pool background) { this.background = background; }
+
+    public Pool get(Workload workload) {
+        return switch (workload) {
+            case READ -> read;
+            case WRITE -> write;
+            case BACKGROUND -> background;
+        };
+    }
+
+    public static class Pool {
+        private int maximumPoolSize;
+        // Longest a caller waits for a connection before failing
+        private Duration connectionTimeout;
+
+        public Pool() {}
+
+        public Pool(int maximumPoolSize, Duration connectionTimeout) {
+            this.maximumPoolSize = maximumPoolSize;
+            this.connectionTimeout = connectionTimeout;
+        }
+
+        public int getMaximumPoolSize() { return maximumPoolSize; }
+        public void setMaximumPoolSize(int maximumPoolSize) { this.maximumPoolSize = maximumPoolSize; }
+
+        public Duration getConnectionTimeout() { return connectionTimeout; }
+        public void setConnectionTimeout(Duration connectionTimeout) { this.connectionTimeout = connectionTimeout; }
+    }
+}
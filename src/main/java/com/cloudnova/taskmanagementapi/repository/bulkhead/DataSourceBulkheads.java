@@ -0,0 +1,32 @@
+package com.cloudnova.taskmanagementapi.repository.bulkhead;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * DataSourceBulkheads - The physical connection pools, one per workload
+ *
+ * Kept as its own bean so the pools are closed on shutdown; the routing
+ * data source exposed to JPA is only a view over them.
+ */
+public class DataSourceBulkheads implements DisposableBean {
+
+    private final Map<Workload, HikariDataSource> pools;
+
+    public DataSourceBulkheads(Map<Workload, HikariDataSource> pools) {
+        this.pools = new EnumMap<>(pools);
+    }
+
+    public DataSource get(Workload workload) {
+        return pools.get(workload);
+    }
+
+    @Override
+    public void destroy() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,26 @@
+package com.cloudnova.taskmanagementapi.repository.bulkhead;
+
+/**
+ * Workload - The connection pool partition a database call is served from
+ */
+public enum Workload {
+    /** Read-only transactions of interactive requests */
+    READ("tasks-read"),
+    /** Read-write transactions of interactive requests */
+    WRITE("tasks-write"),
+    /** Imports, archival, history writing and other batch work, bound via {@link WorkloadContext} */
+    BACKGROUND("tasks-background");
+
+    private final String poolName;
+
+    Workload(String poolName) {
+        this.poolName = poolName;
+    }
+
+    /**
+     * Hikari pool name, the "pool" tag of the hikaricp.* metrics
+     */
+    public String getPoolName() {
+        return poolName;
+    }
+}
@@ -0,0 +1,48 @@
+package com.cloudnova.taskmanagementapi.repository.bulkhead;
+
+import java.util.function.Supplier;
+
+/**
+ * WorkloadContext - Thread-bound workload override read by {@link WorkloadRoutingDataSource}
+ *
+ * Background jobs bind {@link Workload#BACKGROUND} around their work. Without
+ * a binding, the routing data source picks READ or WRITE from the current
+ * transaction's read-only flag.
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {}
+
+    public static Workload current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Run an action with the given workload bound to the current thread
+     * @param workload the workload whose pool serves the action's connections
+     * @param action the work to run
+     * @return the result of the action
+     */
+    public static <T> T callAs(Workload workload, Supplier<T> action) {
+        Workload previous = CURRENT.get();
+        CURRENT.set(workload);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static void runAs(Workload workload, Runnable action) {
+        callAs(workload, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
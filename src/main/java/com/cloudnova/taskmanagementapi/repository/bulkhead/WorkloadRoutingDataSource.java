@@ -0,0 +1,27 @@
+package com.cloudnova.taskmanagementapi.repository.bulkhead;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * WorkloadRoutingDataSource - Picks the connection pool of the current workload
+ *
+ * A bound {@link WorkloadContext} wins; otherwise read-only transactions
+ * (including Spring Data's default for repository reads) use the READ pool
+ * and everything else the WRITE pool.
+ *
+ * Must be wrapped in a LazyConnectionDataSourceProxy so that the physical
+ * connection is fetched on the first statement, after the transaction's
+ * read-only flag has been set, rather than when the transaction begins.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Workload bound = WorkloadContext.current();
+        if (bound != null) {
+            return bound;
+        }
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Workload.READ : Workload.WRITE;
+    }
+}
@@ -0,0 +1,318 @@
+package com.cloudnova.taskmanagementapi.repository.columnar;
+
+import com.cloudnova.taskmanagementapi.model.Task;
+import com.cloudnova.taskmanagementapi.model.TaskStatus;
+import com.cloudnova.taskmanagementapi.repository.TaskRepository;
+import com.cloudnova.taskmanagementapi.tenant.TenantContext;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * ColumnarTaskRepository - {@link TaskRepository} backed by in-memory columns
+ *
+ * A JDK proxy over TaskRepository that answers each repository method from a
+ * per-tenant {@link ColumnarTaskStore} instead of the database. Methods are
+ * dispatched by name, like the shard routing aspect does; the CRUD methods and
+ * every query the services use are supported. Specification, Example, Sort and
+ * Pageable variants of findAll/findBy are not, and throw
+ * UnsupportedOperationException; application-columnar.yml switches the
+ * services that would call them to in-memory filtering.
+ *
+ * Reads return fresh Task copies, so changes only reach the store through
+ * save(), as every service write path already does. Writes are applied
+ * immediately, so the writing transaction reads its own writes. Inside a
+ * transaction, the first pre-image of each changed task is kept in an
+ * {@link UndoLog} and put back if the transaction rolls back. Other
+ * transactions can see the writes before that happens.
+ */
+public final class ColumnarTaskRepository implements InvocationHandler {
+
+    private static final Set<TaskStatus> TERMINAL = Set.of(TaskStatus.COMPLETED, TaskStatus.CANCELLED);
+
+    private final Map<String, ColumnarTaskStore> tenants = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ColumnarTaskRepository() {}
+
+    /**
+     * Create an empty columnar TaskRepository
+     */
+    public static TaskRepository create() {
+        return (TaskRepository) Proxy.newProxyInstance(TaskRepository.class.getClassLoader(),
+                new Class<?>[]{TaskRepository.class}, new ColumnarTaskRepository());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        Object[] a = args != null ? args : new Object[0];
+        if (method.getDeclaringClass() == Object.class) {
+            return switch (method.getName()) {
+                case "equals" -> proxy == a[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> "ColumnarTaskRepository" + tenants.keySet();
+            };
+        }
+
+        String name = method.getName();
+        return switch (name) {
+            case "save", "saveAndFlush" -> write((store, undo) -> save(store, undo, (Task) a[0]));
+            case "saveAll", "saveAllAndFlush" -> write((store, undo) -> {
+                List<Task> saved = new ArrayList<>();
+                for (Task task : (Iterable<Task>) a[0]) {
+                    saved.add(save(store, undo, task));
+                }
+                return saved;
+            });
+            case "findById" -> read(store -> store.find(id(a[0])));
+            case "getReferenceById", "getById", "getOne" -> read(store -> store.find(id(a[0])))
+                    .orElseThrow(() -> new EntityNotFoundException("Task not found with ID: " + a[0]));
+            case "existsById" -> read(store -> store.rowOf(id(a[0])) >= 0);
+            case "findAllById" -> read(store -> {
+                List<Task> found = new ArrayList<>();
+                for (Long id : (Iterable<Long>) a[0]) {
+                    store.find(id(id)).ifPresent(found::add);
+                }
+                return found;
+            });
+            case "deleteById" -> write((store, undo) -> delete(store, undo, id(a[0])));
+            case "deleteAllById", "deleteAllByIdInBatch" -> write((store, undo) -> {
+                for (Long id : (Iterable<Long>) a[0]) {
+                    delete(store, undo, id(id));
+                }
+                return null;
+            });
+            case "flush" -> null;
+            case "findByStatus" -> read(store -> store.select(row -> store.status(row) == a[0]));
+            case "findByStatusOrderByCreatedAtDesc" -> read(store -> {
+                List<Task> tasks = store.select(row -> store.status(row) == a[0]);
+                tasks.sort(Comparator.comparing(Task::getCreatedAt).thenComparing(Task::getId).reversed());
+                return tasks;
+            });
+            case "findByTitleContainingIgnoreCase" -> read(store -> {
+                String needle = lower((String) a[0]);
+                return store.select(row -> lower(store.title(row)).contains(needle));
+            });
+            case "searchByKeyword" -> read(store -> {
+                String needle = lower((String) a[0]);
+                return store.select(row -> lower(store.title(row)).contains(needle)
+                        || (store.description(row) != null && lower(store.description(row)).contains(needle)));
+            });
+            case "existsByTitle" -> read(store -> store.titleExists((String) a[0]));
+            case "findTitlesIn" -> read(store -> ((Collection<String>) a[0]).stream()
+                    .filter(store::titleExists)
+                    .toList());
+            case "countByStatus" -> read(store -> store.count(row -> store.status(row) == a[0]));
+            case "countByStatusIn" -> read(store -> store.count(row -> ((Collection<?>) a[0]).contains(store.status(row))));
+            case "findRanksByStatusIn" -> read(store -> store.project(
+                    row -> ((Collection<?>) a[0]).contains(store.status(row)),
+                    row -> new Object[]{store.id(row), store.priority(row), store.dueAt(row), store.createdAt(row)}));
+            case "findTagRows" -> read(store -> store.project(row -> true,
+                    row -> new Object[]{store.id(row), store.status(row), store.tags(row)}));
+            case "streamLifecycle" -> read(store -> store.project(row -> true,
+                    row -> new Object[]{store.createdAt(row), store.updatedAt(row), store.status(row)})).stream();
+            case "findOverdueTasks" -> read(store -> store.select(row -> !TERMINAL.contains(store.status(row))
+                    && store.createdAt(row).isBefore((LocalDateTime) a[0])));
+            case "findArchivable" -> findArchivable((Collection<?>) a[0], (LocalDateTime) a[1], (Pageable) a[2]);
+            case "findTenantIds" -> tenants.entrySet().stream()
+                    .filter(entry -> readFrom(entry.getValue(), store -> store.count(row -> true)) > 0)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            default -> overloaded(name, a);
+        };
+    }
+
+    /**
+     * Methods whose overloads take Specifications, Examples, Sorts or Pageables
+     */
+    private Object overloaded(String name, Object[] a) {
+        if (a.length == 0) {
+            switch (name) {
+                case "findAll":
+                    return read(store -> store.select(row -> true));
+                case "count":
+                    return read(store -> store.count(row -> true));
+                case "deleteAll", "deleteAllInBatch":
+                    return write((store, undo) -> {
+                        for (Task task : store.select(row -> true)) {
+                            undo.record(store, task.getId(), Optional.of(task));
+                        }
+                        store.clear();
+                        return null;
+                    });
+                default:
+                    break;
+            }
+        }
+        if (a.length == 1 && a[0] instanceof Task task && name.equals("delete")) {
+            return write((store, undo) -> delete(store, undo, id(task.getId())));
+        }
+        if (a.length == 1 && a[0] instanceof Iterable<?> entities
+                && (name.equals("deleteAll") || name.equals("deleteAllInBatch"))) {
+            return write((store, undo) -> {
+                for (Object entity : entities) {
+                    delete(store, undo, id(((Task) entity).getId()));
+                }
+                return null;
+            });
+        }
+        throw new UnsupportedOperationException("TaskRepository." + name
+                + " is not supported by the columnar task store");
+    }
+
+    /**
+     * Terminal tasks updated before the cutoff, in ID order, skipping tasks in a hierarchy
+     */
+    private List<Task> findArchivable(Collection<?> statuses, LocalDateTime cutoff, Pageable pageable) {
+        return read(store -> {
+            Set<Long> parents = new HashSet<>(store.project(row -> store.parentId(row) != null, store::parentId));
+            List<Task> batch = new ArrayList<>();
+            for (int row = 0; row < store.rows() && batch.size() < pageable.getPageSize(); row++) {
+                if (store.live(row) && statuses.contains(store.status(row))
+                        && store.updatedAt(row).isBefore(cutoff)
+                        && store.parentId(row) == null && !parents.contains(store.id(row))) {
+                    batch.add(store.materialize(row));
+                }
+            }
+            return batch;
+        });
+    }
+
+    private <R> R read(Function<ColumnarTaskStore, R> query) {
+        return readFrom(store(), query);
+    }
+
+    private static <R> R readFrom(ColumnarTaskStore store, Function<ColumnarTaskStore, R> query) {
+        store.lock.readLock().lock();
+        try {
+            return query.apply(store);
+        } finally {
+            store.lock.readLock().unlock();
+        }
+    }
+
+    private Task save(ColumnarTaskStore store, UndoLog undo, Task task) {
+        Optional<Task> before = task.getId() == null ? Optional.empty() : store.find(task.getId());
+        Task saved = store.save(task, sequence::incrementAndGet);
+        undo.record(store, saved.getId(), before);
+        return saved;
+    }
+
+    private static boolean delete(ColumnarTaskStore store, UndoLog undo, long id) {
+        store.find(id).ifPresent(task -> undo.record(store, id, Optional.of(task)));
+        return store.delete(id);
+    }
+
+    private <R> R write(BiFunction<ColumnarTaskStore, UndoLog, R> update) {
+        ColumnarTaskStore store = store();
+        UndoLog undo = undoLog();
+        store.lock.writeLock().lock();
+        try {
+            return update.apply(store, undo);
+        } finally {
+            store.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The current transaction's undo log, or one that records nothing outside a transaction
+     */
+    private UndoLog undoLog() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return UndoLog.NONE;
+        }
+        UndoLog undo = (UndoLog) TransactionSynchronizationManager.getResource(this);
+        if (undo == null) {
+            undo = new UndoLog(this);
+            TransactionSynchronizationManager.bindResource(this, undo);
+            TransactionSynchronizationManager.registerSynchronization(undo);
+        }
+        return undo;
+    }
+
+    private ColumnarTaskStore store() {
+        return tenants.computeIfAbsent(TenantContext.current(), ColumnarTaskStore::new);
+    }
+
+    /**
+     * Pre-images of the tasks a transaction changed, restored if it rolls back
+     */
+    private static class UndoLog implements TransactionSynchronization {
+
+        static final UndoLog NONE = new UndoLog(null) {
+            @Override
+            void record(ColumnarTaskStore store, long id, Optional<Task> before) {}
+        };
+
+        private final Object key;
+        // The first pre-image of each changed ID, empty for tasks the transaction inserted
+        private final Map<ColumnarTaskStore, Map<Long, Optional<Task>>> before = new IdentityHashMap<>();
+
+        UndoLog(Object key) {
+            this.key = key;
+        }
+
+        void record(ColumnarTaskStore store, long id, Optional<Task> task) {
+            before.computeIfAbsent(store, s -> new HashMap<>()).putIfAbsent(id, task);
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(key);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(key, this);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(key);
+            if (status != STATUS_ROLLED_BACK) {
+                return;
+            }
+            before.forEach((store, tasks) -> {
+                store.lock.writeLock().lock();
+                try {
+                    tasks.forEach((id, task) -> task.ifPresentOrElse(store::restore, () -> store.delete(id)));
+                } finally {
+                    store.lock.writeLock().unlock();
+                }
+            });
+        }
+    }
+
+    private static long id(Object id) {
+        if (id == null) {
+            throw new IllegalArgumentException("The given id must not be null");
+        }
+        return (Long) id;
+    }
+
+    private static String lower(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
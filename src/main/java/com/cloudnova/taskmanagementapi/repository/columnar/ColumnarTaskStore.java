@@ -0,0 +1,398 @@
+package com.cloudnova.taskmanagementapi.repository.columnar;
+
+import com.cloudnova.taskmanagementapi.model.TagSetConverter;
+import com.cloudnova.taskmanagementapi.model.Task;
+import com.cloudnova.taskmanagementapi.model.TaskPriority;
+import com.cloudnova.taskmanagementapi.model.TaskStatus;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.LongSupplier;
+
+/**
+ * ColumnarTaskStore - One tenant's tasks as primitive column arrays
+ *
+ * Each task is a row index into parallel arrays: long IDs and epoch-millis
+ * timestamps, byte status and priority ordinals, and int references into a
+ * deduplicated UTF-8 {@link StringPool} for title, description and tags.
+ * A row costs about 60 bytes plus its string bytes, with no per-task objects;
+ * {@link Task} objects are only created for the rows a query returns.
+ *
+ * Rows are appended in ID order, so an ID is found by binary search. Deleted
+ * rows become tombstones (status -1) until a compaction rewrites the arrays.
+ *
+ * A read-write lock guards the whole store: scans run concurrently, writes
+ * are exclusive and short.
+ */
+final class ColumnarTaskStore {
+
+    private static final long NULL_LONG = Long.MIN_VALUE;
+    private static final byte DELETED = -1;
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+    private static final TagSetConverter TAGS = new TagSetConverter();
+
+    final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final String tenant;
+    private int capacity = 1024;
+    private long[] ids = new long[capacity];
+    private long[] createdAt = new long[capacity];
+    private long[] updatedAt = new long[capacity];
+    private long[] dueAt = new long[capacity];
+    private long[] parentIds = new long[capacity];
+    private byte[] statuses = new byte[capacity];
+    private byte[] priorities = new byte[capacity];
+    private int[] titles = new int[capacity];
+    private int[] descriptions = new int[capacity];
+    private int[] tags = new int[capacity];
+    private int size;
+    private int deleted;
+
+    private StringPool pool = new StringPool();
+    // Row + 1 of the live task with each title reference, 0 for none
+    private int[] titleRows = new int[1024];
+    // Pooled strings no row refers to any more, reclaimed by compaction
+    private int garbage;
+
+    ColumnarTaskStore(String tenant) {
+        this.tenant = tenant;
+    }
+
+    // --- Reads; callers hold the read lock ---
+
+    int rows() {
+        return size;
+    }
+
+    boolean live(int row) {
+        return statuses[row] != DELETED;
+    }
+
+    long id(int row) {
+        return ids[row];
+    }
+
+    TaskStatus status(int row) {
+        return STATUSES[statuses[row]];
+    }
+
+    TaskPriority priority(int row) {
+        return PRIORITIES[priorities[row]];
+    }
+
+    LocalDateTime createdAt(int row) {
+        return toTime(createdAt[row]);
+    }
+
+    LocalDateTime updatedAt(int row) {
+        return toTime(updatedAt[row]);
+    }
+
+    LocalDateTime dueAt(int row) {
+        return toTime(dueAt[row]);
+    }
+
+    Long parentId(int row) {
+        return parentIds[row] == NULL_LONG ? null : parentIds[row];
+    }
+
+    String title(int row) {
+        return pool.get(titles[row]);
+    }
+
+    String description(int row) {
+        return pool.get(descriptions[row]);
+    }
+
+    Set<String> tags(int row) {
+        return TAGS.convertToEntityAttribute(pool.get(tags[row]));
+    }
+
+    /**
+     * Row of a live task, or -1
+     */
+    int rowOf(long id) {
+        int row = Arrays.binarySearch(ids, 0, size, id);
+        return row >= 0 && live(row) ? row : -1;
+    }
+
+    boolean titleExists(String title) {
+        int ref = pool.find(title);
+        return ref != StringPool.NULL && ref < titleRows.length && titleRows[ref] != 0;
+    }
+
+    Optional<Task> find(long id) {
+        int row = rowOf(id);
+        return row < 0 ? Optional.empty() : Optional.of(materialize(row));
+    }
+
+    /**
+     * Materialize the live rows accepted by the filter, in row (ID) order
+     */
+    List<Task> select(IntPredicate filter) {
+        return project(filter, this::materialize);
+    }
+
+    <R> List<R> project(IntPredicate filter, IntFunction<R> mapper) {
+        List<R> result = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            if (live(row) && filter.test(row)) {
+                result.add(mapper.apply(row));
+            }
+        }
+        return result;
+    }
+
+    long count(IntPredicate filter) {
+        long count = 0;
+        for (int row = 0; row < size; row++) {
+            if (live(row) && filter.test(row)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    Task materialize(int row) {
+        Task task = new Task();
+        task.setId(ids[row]);
+        task.setTenantId(tenant);
+        task.setTitle(title(row));
+        task.setDescription(description(row));
+        task.setStatus(status(row));
+        task.setPriority(priority(row));
+        task.setDueAt(dueAt(row));
+        task.setTags(tags(row));
+        task.setParentId(parentId(row));
+        task.setCreatedAt(createdAt(row));
+        task.setUpdatedAt(updatedAt(row));
+        return task;
+    }
+
+    /**
+     * Approximate heap bytes of the columns and the string pool
+     */
+    long footprint() {
+        return (long) capacity * (5 * Long.BYTES + 2 + 3 * Integer.BYTES)
+                + 4L * titleRows.length + pool.footprint();
+    }
+
+    // --- Writes; callers hold the write lock ---
+
+    /**
+     * Insert a task, or update its row if it exists
+     *
+     * Like a JPA save, a new task gets its ID assigned and an update refreshes
+     * updatedAt. The task object is updated and returned.
+     */
+    Task save(Task task, LongSupplier nextId) {
+        int row = task.getId() == null ? -1 : rowOf(task.getId());
+        if (row < 0) {
+            task.setId(nextId.getAsLong());
+            row = append(task.getId());
+            createdAt[row] = toMillis(task.getCreatedAt() != null ? task.getCreatedAt() : LocalDateTime.now());
+        } else {
+            task.setUpdatedAt(LocalDateTime.now());
+            release(row);
+        }
+        task.setTenantId(tenant);
+        write(row, task);
+        return task;
+    }
+
+    /**
+     * Put a task back exactly as it was, timestamps included, to undo a write
+     */
+    void restore(Task task) {
+        int row = Arrays.binarySearch(ids, 0, size, task.getId());
+        if (row < 0) {
+            // Its tombstone was compacted away
+            row = insert(-row - 1, task.getId());
+        } else if (live(row)) {
+            release(row);
+        } else {
+            deleted--;
+        }
+        createdAt[row] = toMillis(task.getCreatedAt());
+        write(row, task);
+    }
+
+    private void write(int row, Task task) {
+        statuses[row] = (byte) task.getStatus().ordinal();
+        priorities[row] = (byte) (task.getPriority() != null ? task.getPriority() : TaskPriority.MEDIUM).ordinal();
+        updatedAt[row] = toMillis(task.getUpdatedAt());
+        dueAt[row] = toMillis(task.getDueAt());
+        parentIds[row] = task.getParentId() == null ? NULL_LONG : task.getParentId();
+        titles[row] = pool.intern(task.getTitle());
+        descriptions[row] = pool.intern(task.getDescription());
+        tags[row] = pool.intern(TAGS.convertToDatabaseColumn(task.getTags()));
+        indexTitle(row);
+    }
+
+    boolean delete(long id) {
+        int row = rowOf(id);
+        if (row < 0) {
+            return false;
+        }
+        release(row);
+        statuses[row] = DELETED;
+        deleted++;
+        if (deleted > 1024 && deleted * 4 > size) {
+            compact();
+        }
+        return true;
+    }
+
+    void clear() {
+        size = 0;
+        deleted = 0;
+        garbage = 0;
+        pool = new StringPool();
+        titleRows = new int[1024];
+    }
+
+    private int append(long id) {
+        if (size == capacity) {
+            grow(capacity * 2);
+        }
+        ids[size] = id;
+        return size++;
+    }
+
+    /**
+     * Open a row at a position in ID order, shifting the rows after it
+     */
+    private int insert(int row, long id) {
+        if (size == capacity) {
+            grow(capacity * 2);
+        }
+        int tail = size - row;
+        System.arraycopy(ids, row, ids, row + 1, tail);
+        System.arraycopy(createdAt, row, createdAt, row + 1, tail);
+        System.arraycopy(updatedAt, row, updatedAt, row + 1, tail);
+        System.arraycopy(dueAt, row, dueAt, row + 1, tail);
+        System.arraycopy(parentIds, row, parentIds, row + 1, tail);
+        System.arraycopy(statuses, row, statuses, row + 1, tail);
+        System.arraycopy(priorities, row, priorities, row + 1, tail);
+        System.arraycopy(titles, row, titles, row + 1, tail);
+        System.arraycopy(descriptions, row, descriptions, row + 1, tail);
+        System.arraycopy(tags, row, tags, row + 1, tail);
+        ids[row] = id;
+        size++;
+        for (int shifted = row + 1; shifted < size; shifted++) {
+            if (live(shifted)) {
+                indexTitle(shifted);
+            }
+        }
+        return row;
+    }
+
+    /**
+     * Forget a row's strings before they are replaced or the row is deleted
+     */
+    private void release(int row) {
+        if (titles[row] != StringPool.NULL && titles[row] < titleRows.length && titleRows[titles[row]] == row + 1) {
+            titleRows[titles[row]] = 0;
+        }
+        garbage += 3;
+        if (garbage > 4096 && garbage > pool.size() / 2) {
+            compactStrings();
+        }
+    }
+
+    private void indexTitle(int row) {
+        int ref = titles[row];
+        if (ref == StringPool.NULL) {
+            return;
+        }
+        if (ref >= titleRows.length) {
+            titleRows = Arrays.copyOf(titleRows, Math.max(titleRows.length * 2, ref + 1));
+        }
+        titleRows[ref] = row + 1;
+    }
+
+    private void grow(int newCapacity) {
+        ids = Arrays.copyOf(ids, newCapacity);
+        createdAt = Arrays.copyOf(createdAt, newCapacity);
+        updatedAt = Arrays.copyOf(updatedAt, newCapacity);
+        dueAt = Arrays.copyOf(dueAt, newCapacity);
+        parentIds = Arrays.copyOf(parentIds, newCapacity);
+        statuses = Arrays.copyOf(statuses, newCapacity);
+        priorities = Arrays.copyOf(priorities, newCapacity);
+        titles = Arrays.copyOf(titles, newCapacity);
+        descriptions = Arrays.copyOf(descriptions, newCapacity);
+        tags = Arrays.copyOf(tags, newCapacity);
+        capacity = newCapacity;
+    }
+
+    /**
+     * Drop tombstones, keeping row (ID) order
+     */
+    private void compact() {
+        int target = 0;
+        for (int row = 0; row < size; row++) {
+            if (!live(row)) {
+                continue;
+            }
+            ids[target] = ids[row];
+            createdAt[target] = createdAt[row];
+            updatedAt[target] = updatedAt[row];
+            dueAt[target] = dueAt[row];
+            parentIds[target] = parentIds[row];
+            statuses[target] = statuses[row];
+            priorities[target] = priorities[row];
+            titles[target] = titles[row];
+            descriptions[target] = descriptions[row];
+            tags[target] = tags[row];
+            target++;
+        }
+        size = target;
+        deleted = 0;
+        compactStrings();
+    }
+
+    /**
+     * Rebuild the string pool from the live rows' strings
+     */
+    private void compactStrings() {
+        int[] refs = new int[size * 3];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (live(row)) {
+                refs[count++] = titles[row];
+                refs[count++] = descriptions[row];
+                refs[count++] = tags[row];
+            }
+        }
+        pool = pool.compact(refs, count);
+        titleRows = new int[Math.max(1024, pool.size())];
+        count = 0;
+        for (int row = 0; row < size; row++) {
+            if (live(row)) {
+                titles[row] = refs[count++];
+                descriptions[row] = refs[count++];
+                tags[row] = refs[count++];
+                indexTitle(row);
+            }
+        }
+        garbage = 0;
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time == null ? NULL_LONG : time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime toTime(long millis) {
+        return millis == NULL_LONG ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,148 @@
+package com.cloudnova.taskmanagementapi.repository.columnar;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * StringPool - Deduplicated UTF-8 string storage in one byte arena
+ *
+ * Strings are stored once as UTF-8 bytes in a single growable byte array and
+ * referred to by an int. Equal strings share a reference, found through an
+ * open-addressing hash table of references, so there is no String or byte[]
+ * object (and no object header) per stored value.
+ *
+ * The arena is append-only: a string that no row refers to any more stays
+ * until {@link #compact} copies the live ones into a new pool.
+ *
+ * Not thread-safe; callers synchronize.
+ */
+final class StringPool {
+
+    /** Reference of null */
+    static final int NULL = -1;
+
+    private byte[] arena = new byte[1 << 16];
+    private int arenaSize;
+    private int[] offsets = new int[1024];
+    private int[] lengths = new int[1024];
+    private int count;
+
+    // Open addressing: slot holds reference + 1, 0 is empty
+    private int[] table = new int[2048];
+
+    /**
+     * The reference of a string, adding it if not yet pooled
+     */
+    int intern(String value) {
+        if (value == null) {
+            return NULL;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int hash = hash(bytes, 0, bytes.length);
+        int mask = table.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int ref = table[slot] - 1;
+            if (ref < 0) {
+                ref = append(bytes);
+                table[slot] = ref + 1;
+                if (count * 2 > table.length) {
+                    rehash();
+                }
+                return ref;
+            }
+            if (lengths[ref] == bytes.length
+                    && Arrays.equals(arena, offsets[ref], offsets[ref] + lengths[ref], bytes, 0, bytes.length)) {
+                return ref;
+            }
+        }
+    }
+
+    String get(int ref) {
+        return ref == NULL ? null : new String(arena, offsets[ref], lengths[ref], StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The reference of a pooled string, without adding it
+     * @return the reference, or {@link #NULL} if the string is not pooled
+     */
+    int find(String value) {
+        if (value == null) {
+            return NULL;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int mask = table.length - 1;
+        for (int slot = hash(bytes, 0, bytes.length) & mask; ; slot = (slot + 1) & mask) {
+            int ref = table[slot] - 1;
+            if (ref < 0) {
+                return NULL;
+            }
+            if (lengths[ref] == bytes.length
+                    && Arrays.equals(arena, offsets[ref], offsets[ref] + lengths[ref], bytes, 0, bytes.length)) {
+                return ref;
+            }
+        }
+    }
+
+    /**
+     * The number of pooled strings; references are 0 to size - 1
+     */
+    int size() {
+        return count;
+    }
+
+    /**
+     * Bytes held by the arena, the reference arrays and the hash table
+     */
+    long footprint() {
+        return arena.length + 4L * (offsets.length + lengths.length + table.length);
+    }
+
+    private int append(byte[] bytes) {
+        if (arenaSize + bytes.length > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(arena.length * 2, arenaSize + bytes.length));
+        }
+        if (count == offsets.length) {
+            offsets = Arrays.copyOf(offsets, count * 2);
+            lengths = Arrays.copyOf(lengths, count * 2);
+        }
+        System.arraycopy(bytes, 0, arena, arenaSize, bytes.length);
+        offsets[count] = arenaSize;
+        lengths[count] = bytes.length;
+        arenaSize += bytes.length;
+        return count++;
+    }
+
+    private void rehash() {
+        table = new int[table.length * 2];
+        int mask = table.length - 1;
+        for (int ref = 0; ref < count; ref++) {
+            int slot = hash(arena, offsets[ref], lengths[ref]) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = ref + 1;
+        }
+    }
+
+    private static int hash(byte[] bytes, int from, int length) {
+        int hash = 1;
+        for (int i = from; i < from + length; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        // Spread the high bits, as HashMap does
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Copy the given live references into a fresh pool
+     * @param refs the references to keep; rewritten in place to the new pool's references
+     * @return the new pool
+     */
+    StringPool compact(int[] refs, int length) {
+        StringPool compacted = new StringPool();
+        for (int i = 0; i < length; i++) {
+            refs[i] = compacted.intern(get(refs[i]));
+        }
+        return compacted;
+    }
+}
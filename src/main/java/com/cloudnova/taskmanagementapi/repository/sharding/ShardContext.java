@@ -0,0 +1,46 @@
+package com.cloudnova.taskmanagementapi.repository.sharding;
+
+/**
+ * ShardContext - Thread-bound shard selection read by {@link ShardRoutingDataSource}
+ *
+ * When no shard is bound the routing data source falls back to shard 0,
+ * which is also where Hibernate creates the schema during bootstrap.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {}
+
+    /**
+     * Work executed while a shard is bound
+     */
+    @FunctionalInterface
+    public interface ShardCall<T> {
+        T call() throws Throwable;
+    }
+
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Run a call with the given shard bound to the current thread
+     * @param shard the shard index
+     * @param call the work to run
+     * @return the result of the call
+     */
+    public static <T> T callOn(int shard, ShardCall<T> call) throws Throwable {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return call.call();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
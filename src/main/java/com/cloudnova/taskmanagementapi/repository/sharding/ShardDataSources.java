@@ -0,0 +1,35 @@
+package com.cloudnova.taskmanagementapi.repository.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * ShardDataSources - The physical connection pools, one per shard
+ *
+ * Kept as its own bean so the pools are closed on shutdown; the routing
+ * data source exposed to JPA is only a view over them.
+ */
+public class ShardDataSources implements DisposableBean {
+
+    private final List<HikariDataSource> pools;
+
+    public ShardDataSources(List<HikariDataSource> pools) {
+        this.pools = List.copyOf(pools);
+    }
+
+    public int size() {
+        return pools.size();
+    }
+
+    public DataSource get(int shard) {
+        return pools.get(shard);
+    }
+
+    @Override
+    public void destroy() {
+        pools.forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,35 @@
+package com.cloudnova.taskmanagementapi.repository.sharding;
+
+/**
+ * ShardKey - Encodes the owning shard in the high bits of a task ID
+ *
+ * Every shard hands out identity values from its own range:
+ * shard {@code n} starts at {@code (n << SHARD_BITS) + 1}. Routing a
+ * single-row operation therefore never needs a lookup table, and shard 0
+ * keeps the same IDs the unsharded deployment produced.
+ */
+public final class ShardKey {
+
+    /** Number of low bits reserved for the per-shard identity value. */
+    public static final int SHARD_BITS = 40;
+
+    private ShardKey() {}
+
+    /**
+     * Get the shard that owns an ID
+     * @param id the task ID
+     * @return the shard index encoded in the ID
+     */
+    public static int shardOf(long id) {
+        return (int) (id >>> SHARD_BITS);
+    }
+
+    /**
+     * Get the first identity value handed out by a shard
+     * @param shard the shard index
+     * @return the identity start value for that shard
+     */
+    public static long firstIdOf(int shard) {
+        return ((long) shard << SHARD_BITS) + 1;
+    }
+}
@@ -0,0 +1,283 @@
+package com.cloudnova.taskmanagementapi.repository.sharding;
+
+import com.cloudnova.taskmanagementapi.model.ArchivedTask;
+import com.cloudnova.taskmanagementapi.model.Task;
+import com.cloudnova.taskmanagementapi.tenant.TenantContext;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ShardRoutingAspect - Routes TaskRepository and ArchivedTaskRepository calls to the owning shard(s)
+ *
+ * An archived task keeps its ID, and with it its shard.
+ *
+ * Routing rules:
+ * - ID-based calls (findById, existsById, deleteById, ...) run on the shard encoded in the ID
+ * - save/delete of an entity run on the entity's shard; new entities are placed by
+ *   {@link ShardingProperties.Placement}
+ * - Everything returning a list, count, boolean or optional is scattered to every
+ *   shard on virtual threads and gathered: lists are concatenated (or k-way merged
+ *   for ordered finders), counts summed, booleans OR-ed (which makes the title
+ *   uniqueness check global)
+ *
+ * Single-shard calls run on the caller's thread and therefore join its transaction.
+ * Scatter legs run in their own short read transactions per shard. Writes that span
+ * several shards (saveAll over mixed shards) are committed per shard, not atomically.
+ * Work that must lock and write rows in one transaction, like archival, binds a
+ * shard with {@link ShardContext} first; calls made while a shard is bound are
+ * not routed.
+ */
+@Aspect
+@Component
+@Profile("sharded")
+public class ShardRoutingAspect {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardRoutingAspect.class);
+
+    private static final Set<String> ID_ROUTED = Set.of(
+            "findById", "existsById", "deleteById", "getReferenceById", "getById", "getOne");
+
+    private static final Set<String> ENTITY_ROUTED = Set.of("save", "saveAndFlush", "delete");
+
+    private static final Set<String> CALLER_ONLY = Set.of("flush");
+
+    /** Orderings of finders whose per-shard results (Tasks or ArchivedTasks) must be merge-sorted */
+    private static final Map<String, Comparator<Object>> ORDERED_FINDERS = Map.of(
+            "findByStatusOrderByCreatedAtDesc",
+            Comparator.comparing(ShardRoutingAspect::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+    );
+
+    /** Fluent Specification queries; their callers re-sort the concatenated per-shard lists */
+    private static final Set<String> FLUENT_FINDERS = Set.of("findBy");
+
+    private final ShardDataSources shards;
+    private final ShardingProperties properties;
+    private final ExecutorService executor;
+    private final AtomicInteger nextShard = new AtomicInteger();
+
+    @Autowired
+    public ShardRoutingAspect(ShardDataSources shards,
+                              ShardingProperties properties,
+                              @Qualifier("shardScatterExecutor") ExecutorService executor) {
+        this.shards = shards;
+        this.properties = properties;
+        this.executor = executor;
+    }
+
+    @Around("target(com.cloudnova.taskmanagementapi.repository.TaskRepository)"
+            + " || target(com.cloudnova.taskmanagementapi.repository.ArchivedTaskRepository)")
+    public Object route(ProceedingJoinPoint pjp) throws Throwable {
+        Method method = ((MethodSignature) pjp.getSignature()).getMethod();
+
+        // Already routed (scatter leg or explicit ShardContext use) or not a repository method
+        if (ShardContext.current() != null || method.getDeclaringClass() == Object.class) {
+            return pjp.proceed();
+        }
+
+        String name = method.getName();
+        Object[] args = pjp.getArgs();
+
+        if (ID_ROUTED.contains(name) && args.length == 1 && args[0] instanceof Long id) {
+            return ShardContext.callOn(ShardKey.shardOf(id), pjp::proceed);
+        }
+        if (ENTITY_ROUTED.contains(name) && args.length == 1
+                && (args[0] instanceof Task || args[0] instanceof ArchivedTask)) {
+            return ShardContext.callOn(shardFor(args[0]), pjp::proceed);
+        }
+        if (name.startsWith("saveAll") && args.length == 1 && args[0] instanceof Iterable<?> entities) {
+            Map<Integer, List<Object>> byShard = new TreeMap<>();
+            for (Object entity : entities) {
+                byShard.computeIfAbsent(shardFor(entity), s -> new ArrayList<>()).add(entity);
+            }
+            return concat(routeGroups(pjp, byShard));
+        }
+        if (name.equals("findAllById") && args.length == 1 && args[0] instanceof Iterable<?> ids) {
+            Map<Integer, List<Object>> byShard = new TreeMap<>();
+            for (Object id : ids) {
+                byShard.computeIfAbsent(ShardKey.shardOf((Long) id), s -> new ArrayList<>()).add(id);
+            }
+            return concat(routeGroups(pjp, byShard));
+        }
+        if (CALLER_ONLY.contains(name)) {
+            return pjp.proceed();
+        }
+
+        return scatterGather(pjp, method, args);
+    }
+
+    private Object scatterGather(ProceedingJoinPoint pjp, Method method, Object[] args) throws Throwable {
+        Class<?> type = method.getReturnType();
+        Comparator<Object> order = ORDERED_FINDERS.get(method.getName());
+
+        boolean mergeable = List.class.isAssignableFrom(type) || type == Iterable.class
+                || type == long.class || type == Long.class
+                || type == boolean.class || type == Boolean.class
+                || type == Optional.class || type == void.class
+                || FLUENT_FINDERS.contains(method.getName());
+        if (!mergeable) {
+            logger.debug("No scatter-gather merge for {}, running on default shard", method.getName());
+            return pjp.proceed();
+        }
+
+        Map<Integer, Object[]> legs = new LinkedHashMap<>();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            legs.put(shard, args);
+        }
+        List<Object> results = scatter(pjp, legs);
+
+        if (type == long.class || type == Long.class) {
+            return results.stream().mapToLong(r -> (Long) r).sum();
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return results.stream().anyMatch(Boolean.TRUE::equals);
+        }
+        if (type == Optional.class) {
+            return firstPresent(results, order);
+        }
+        if (type == void.class) {
+            return null;
+        }
+        return order == null ? concat(results) : mergeSorted(results, order);
+    }
+
+    /**
+     * Run each argument group on its shard; a single group stays on the caller's thread
+     */
+    private List<Object> routeGroups(ProceedingJoinPoint pjp, Map<Integer, List<Object>> byShard) throws Throwable {
+        if (byShard.size() == 1) {
+            Map.Entry<Integer, List<Object>> only = byShard.entrySet().iterator().next();
+            Object[] args = {only.getValue()};
+            return List.of(ShardContext.callOn(only.getKey(), () -> pjp.proceed(args)));
+        }
+        Map<Integer, Object[]> legs = new LinkedHashMap<>();
+        byShard.forEach((shard, group) -> legs.put(shard, new Object[]{group}));
+        return scatter(pjp, legs);
+    }
+
+    private List<Object> scatter(ProceedingJoinPoint pjp, Map<Integer, Object[]> legs) throws Throwable {
+        // Legs open their own sessions, which must be scoped to the caller's tenant
+        String tenant = TenantContext.current();
+        List<Future<Object>> futures = new ArrayList<>(legs.size());
+        legs.forEach((shard, args) -> futures.add(executor.submit(
+                TenantContext.bind(tenant, () -> invokeOn(pjp, shard, args)))));
+
+        List<Object> results = new ArrayList<>(futures.size());
+        for (Future<Object> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                throw e.getCause();
+            }
+        }
+        return results;
+    }
+
+    private static Object invokeOn(ProceedingJoinPoint pjp, int shard, Object[] args) throws Exception {
+        try {
+            return ShardContext.callOn(shard, () -> pjp.proceed(args));
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+
+    private int shardFor(Object entity) {
+        if (entity instanceof ArchivedTask archived) {
+            return ShardKey.shardOf(archived.getId());
+        }
+        Task task = (Task) entity;
+        if (task.getId() != null) {
+            return ShardKey.shardOf(task.getId());
+        }
+        int count = shards.size();
+        return switch (properties.getPlacement()) {
+            case HASH -> Math.floorMod(Objects.hashCode(task.getTitle()), count);
+            case ROUND_ROBIN -> Math.floorMod(nextShard.getAndIncrement(), count);
+        };
+    }
+
+    private static List<Object> concat(List<Object> parts) {
+        List<Object> merged = new ArrayList<>();
+        for (Object part : parts) {
+            ((Iterable<?>) part).forEach(merged::add);
+        }
+        return merged;
+    }
+
+    private static LocalDateTime createdAt(Object entity) {
+        return entity instanceof ArchivedTask archived ? archived.getCreatedAt() : ((Task) entity).getCreatedAt();
+    }
+
+    /**
+     * K-way merge of per-shard results that are each already sorted by {@code order}
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Object> mergeSorted(List<Object> parts, Comparator<Object> order) {
+        record Head(Object task, Iterator<Object> rest) {}
+
+        PriorityQueue<Head> heads = new PriorityQueue<>(Comparator.comparing(Head::task, order));
+        int total = 0;
+        for (Object part : parts) {
+            List<Object> list = (List<Object>) part;
+            total += list.size();
+            Iterator<Object> it = list.iterator();
+            if (it.hasNext()) {
+                heads.add(new Head(it.next(), it));
+            }
+        }
+
+        List<Object> merged = new ArrayList<>(total);
+        while (!heads.isEmpty()) {
+            Head head = heads.poll();
+            merged.add(head.task());
+            if (head.rest().hasNext()) {
+                heads.add(new Head(head.rest().next(), head.rest()));
+            }
+        }
+        return merged;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Optional<Object> firstPresent(List<Object> results, Comparator<Object> order) {
+        Optional<Object> best = Optional.empty();
+        for (Object result : results) {
+            Optional<Object> candidate = (Optional<Object>) result;
+            if (candidate.isEmpty()) {
+                continue;
+            }
+            if (best.isEmpty() || (order != null
+                    && order.compare(candidate.get(), best.get()) < 0)) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+}
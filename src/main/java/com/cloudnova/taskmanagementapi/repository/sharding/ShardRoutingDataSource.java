@@ -0,0 +1,18 @@
+package com.cloudnova.taskmanagementapi.repository.sharding;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * ShardRoutingDataSource - Picks the shard data source bound in {@link ShardContext}
+ *
+ * Must be wrapped in a LazyConnectionDataSourceProxy so that the physical
+ * connection is fetched on the first statement, after the routing aspect
+ * has bound the target shard, rather than when the transaction begins.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+}
@@ -0,0 +1,74 @@
+package com.cloudnova.taskmanagementapi.repository.sharding;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ShardSchemaInitializer - Replicates the Hibernate-generated schema to every shard
+ *
+ * Hibernate only creates the schema on the default shard (0) during bootstrap.
+ * This copies that DDL to the remaining shards using H2's SCRIPT command, so the
+ * shards never drift from the entity mappings, and then restarts each shard's
+ * task identity at the start of its {@link ShardKey} range.
+ */
+@Component
+@Profile("sharded")
+@DependsOn("entityManagerFactory")
+public class ShardSchemaInitializer implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardSchemaInitializer.class);
+
+    private final ShardDataSources shards;
+
+    @Autowired
+    public ShardSchemaInitializer(ShardDataSources shards) {
+        this.shards = shards;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws SQLException {
+        List<String> ddl = exportSchema(shards.get(0));
+
+        for (int shard = 0; shard < shards.size(); shard++) {
+            try (Connection connection = shards.get(shard).getConnection();
+                 Statement statement = connection.createStatement()) {
+                if (shard > 0) {
+                    for (String sql : ddl) {
+                        statement.execute(sql);
+                    }
+                }
+                statement.execute("ALTER TABLE tasks ALTER COLUMN id RESTART WITH " + ShardKey.firstIdOf(shard));
+            }
+            logger.info("Shard {} schema ready, task IDs start at {}", shard, ShardKey.firstIdOf(shard));
+        }
+    }
+
+    private List<String> exportSchema(DataSource source) throws SQLException {
+        List<String> ddl = new ArrayList<>();
+        try (Connection connection = source.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SCRIPT NODATA NOPASSWORDS NOSETTINGS")) {
+            while (rs.next()) {
+                String sql = rs.getString(1).trim();
+                if (sql.startsWith("--") || sql.startsWith("CREATE USER")) {
+                    continue;
+                }
+                ddl.add(sql);
+            }
+        }
+        return ddl;
+    }
+}
@@ -0,0 +1,47 @@
+package com.cloudnova.taskmanagementapi.repository.sharding;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ShardingProperties - Configuration for the "sharded" profile
+ *
+ * Bound from {@code task.sharding.*}. Credentials and driver are shared
+ * with {@code spring.datasource.*}; only the URLs differ per shard.
+ */
+@ConfigurationProperties(prefix = "task.sharding")
+public class ShardingProperties {
+
+    /**
+     * How a new task (one without an ID yet) is assigned to a shard
+     */
+    public enum Placement {
+        /** Hash of the title, so equal titles always meet on the same shard */
+        HASH,
+        /** Rotate through the shards to spread inserts evenly */
+        ROUND_ROBIN
+    }
+
+    private Placement placement = Placement.HASH;
+
+    private List<Shard> shards = new ArrayList<>();
+
+    public Placement getPlacement() { return placement; }
+    public void setPlacement(Placement placement) { this.placement = placement; }
+
+    public List<Shard> getShards() { return shards; }
+    public void setShards(List<Shard> shards) { this.shards = shards; }
+
+    public static class Shard {
+        private String url;
+        private int maximumPoolSize = 10;
+
+        public String getUrl() { return url; }
+        public void setUrl(String url) { this.url = url; }
+
+        public int getMaximumPoolSize() { return maximumPoolSize; }
+        public void setMaximumPoolSize(int maximumPoolSize) { this.maximumPoolSize = maximumPoolSize; }
+    }
+}
@@ -0,0 +1,80 @@
+package com.cloudnova.taskmanagementapi.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CsvRecordReader - Incremental RFC 4180 record reader
+ *
+ * Reads one record at a time from the underlying reader, so arbitrarily
+ * large uploads are never held in memory. Supports quoted fields with
+ * embedded commas, doubled quotes and line breaks.
+ */
+class CsvRecordReader {
+
+    private final Reader in;
+
+    CsvRecordReader(Reader in) {
+        this.in = in.markSupported() ? in : new BufferedReader(in);
+    }
+
+    /**
+     * Read the next non-blank record
+     * @return the record's fields, or null at end of input
+     */
+    List<String> next() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+        boolean sawAny = false;
+
+        int c;
+        while ((c = in.read()) != -1) {
+            sawAny = true;
+            if (inQuotes) {
+                if (c == '"') {
+                    in.mark(1);
+                    int next = in.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        inQuotes = false;
+                        if (next != -1) {
+                            in.reset();
+                        }
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                inQuotes = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    in.mark(1);
+                    if (in.read() != '\n') {
+                        in.reset();
+                    }
+                }
+                if (fields.isEmpty() && field.isEmpty()) {
+                    continue; // blank line
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+        }
+
+        if (!sawAny || (fields.isEmpty() && field.isEmpty())) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,99 @@
+package com.cloudnova.taskmanagementapi.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ImportJob - Progress and error report of one bulk import
+ *
+ * Counters are updated by the importing thread and may be read concurrently
+ * through the status endpoint while the upload is still streaming.
+ */
+public class ImportJob {
+
+    public enum State {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    /**
+     * A rejected input row
+     */
+    public record RowError(long row, String message) {}
+
+    private final String id = UUID.randomUUID().toString();
+    private final String tenantId;
+    private final String format;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final int maxReportedErrors;
+
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final List<RowError> errors = Collections.synchronizedList(new ArrayList<>());
+
+    private volatile State state = State.RUNNING;
+    private volatile LocalDateTime finishedAt;
+    private volatile String message;
+
+    public ImportJob(String tenantId, String format, int maxReportedErrors) {
+        this.tenantId = tenantId;
+        this.format = format;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    void imported(int count) {
+        imported.addAndGet(count);
+    }
+
+    void duplicate(long row, String title) {
+        duplicates.incrementAndGet();
+        report(row, "Task with title '" + title + "' already exists");
+    }
+
+    void rejected(long row, String reason) {
+        failed.incrementAndGet();
+        report(row, reason);
+    }
+
+    void finish(State state, String message) {
+        this.state = state;
+        this.message = message;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    private void report(long row, String reason) {
+        // Counters stay exact; only the detailed report is capped
+        if (errors.size() < maxReportedErrors) {
+            errors.add(new RowError(row, reason));
+        }
+    }
+
+    public String getId() { return id; }
+    public String getTenantId() { return tenantId; }
+    public String getFormat() { return format; }
+    public State getState() { return state; }
+    public String getMessage() { return message; }
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public long getRowsRead() { return rowsRead.get(); }
+    public long getImported() { return imported.get(); }
+    public long getDuplicates() { return duplicates.get(); }
+    public long getFailed() { return failed.get(); }
+
+    public List<RowError> getErrors() {
+        synchronized (errors) {
+            return List.copyOf(errors);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.cloudnova.taskmanagementapi.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * IndexedPriorityQueue - Binary heap with a key index for in-place updates
+ *
+ * Keeps each key's heap position in a map, so changing a key's value
+ * (decrease- or increase-key) and removing a key are O(log n) instead of the
+ * O(n) search a {@link PriorityQueue} needs. The element that compares
+ * smallest is at the top.
+ *
+ * Not thread-safe; callers synchronize.
+ */
+class IndexedPriorityQueue<K, V> {
+
+    private final Comparator<? super V> order;
+    private final Map<K, Integer> positions = new HashMap<>();
+    private Object[] keys = new Object[16];
+    private Object[] values = new Object[16];
+    private int size;
+
+    IndexedPriorityQueue(Comparator<? super V> order) {
+        this.order = order;
+    }
+
+    /**
+     * Insert a key, or move it to its new position if its value changed
+     */
+    void put(K key, V value) {
+        Integer position = positions.get(key);
+        if (position == null) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            set(size, key, value);
+            siftUp(size++);
+            return;
+        }
+        values[position] = value;
+        if (!siftUp(position)) {
+            siftDown(position);
+        }
+    }
+
+    /**
+     * Remove a key
+     * @return whether the key was present
+     */
+    boolean remove(K key) {
+        Integer position = positions.remove(key);
+        if (position == null) {
+            return false;
+        }
+        int last = --size;
+        if (position != last) {
+            set(position, key(last), value(last));
+            if (!siftUp(position)) {
+                siftDown(position);
+            }
+        }
+        keys[last] = null;
+        values[last] = null;
+        return true;
+    }
+
+    /**
+     * The n smallest keys in order, without removing them
+     *
+     * Walks the heap best-first with a frontier of candidate positions, so it
+     * costs O(n log n) regardless of the queue size.
+     */
+    List<K> top(int n) {
+        List<K> result = new ArrayList<>(Math.min(n, size));
+        if (size == 0 || n <= 0) {
+            return result;
+        }
+        PriorityQueue<Integer> frontier = new PriorityQueue<>((a, b) -> order.compare(value(a), value(b)));
+        frontier.add(0);
+        while (result.size() < n && !frontier.isEmpty()) {
+            int position = frontier.poll();
+            result.add(key(position));
+            int child = 2 * position + 1;
+            if (child < size) {
+                frontier.add(child);
+            }
+            if (child + 1 < size) {
+                frontier.add(child + 1);
+            }
+        }
+        return result;
+    }
+
+    boolean contains(K key) {
+        return positions.containsKey(key);
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        positions.clear();
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+    }
+
+    private boolean siftUp(int position) {
+        int start = position;
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (order.compare(value(position), value(parent)) >= 0) {
+                break;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+        return position != start;
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int smallest = position;
+            int left = 2 * position + 1;
+            int right = left + 1;
+            if (left < size && order.compare(value(left), value(smallest)) < 0) {
+                smallest = left;
+            }
+            if (right < size && order.compare(value(right), value(smallest)) < 0) {
+                smallest = right;
+            }
+            if (smallest == position) {
+                return;
+            }
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        K key = key(a);
+        V value = value(a);
+        set(a, key(b), value(b));
+        set(b, key, value);
+    }
+
+    private void set(int position, K key, V value) {
+        keys[position] = key;
+        values[position] = value;
+        positions.put(key, position);
+    }
+
+    @SuppressWarnings("unchecked")
+    private K key(int position) {
+        return (K) keys[position];
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(int position) {
+        return (V) values[position];
+    }
+}
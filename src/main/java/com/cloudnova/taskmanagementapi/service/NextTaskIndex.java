@@ -0,0 +1,129 @@
+package com.cloudnova.taskmanagementapi.service;
+
+import com.cloudnova.taskmanagementapi.event.TaskChangedEvent;
+import com.cloudnova.taskmanagementapi.model.TaskPriority;
+import com.cloudnova.taskmanagementapi.model.TaskStatus;
+import com.cloudnova.taskmanagementapi.repository.TaskRepository;
+import com.cloudnova.taskmanagementapi.tenant.TenantContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * NextTaskIndex - In-memory priority queue of open tasks, for "what's next"
+ *
+ * Open (TODO / IN_PROGRESS) tasks are ranked by priority (highest first), then
+ * due date (earliest first, undated last), then age, and kept in an
+ * {@link IndexedPriorityQueue} per tenant. Picking the top N costs
+ * O(N log n) instead of a full scan and sort.
+ *
+ * A tenant's queue is loaded from the database on its first use and kept
+ * current from committed {@link TaskChangedEvent}s: creates and updates move
+ * the task to its new rank, while completion, cancellation and deletion
+ * remove it.
+ */
+@Component
+public class NextTaskIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(NextTaskIndex.class);
+
+    private static final List<TaskStatus> OPEN_STATUSES = List.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS);
+
+    /**
+     * Ranking key of an open task; smaller ranks come first
+     */
+    record Rank(long id, TaskPriority priority, LocalDateTime dueAt, LocalDateTime createdAt) {}
+
+    static final Comparator<Rank> ORDER = Comparator
+            .comparing(Rank::priority, Comparator.reverseOrder())
+            .thenComparing(Rank::dueAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Rank::createdAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparingLong(Rank::id);
+
+    private static final class Partition {
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        final IndexedPriorityQueue<Long, Rank> queue = new IndexedPriorityQueue<>(ORDER);
+        volatile boolean loaded;
+    }
+
+    private final TaskRepository taskRepository;
+    private final ConcurrentHashMap<String, Partition> partitions = new ConcurrentHashMap<>();
+
+    @Autowired
+    public NextTaskIndex(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    /**
+     * The IDs of the current tenant's top open tasks, most urgent first
+     * @param limit the number of tasks
+     * @return at most limit task IDs
+     */
+    public List<Long> top(int limit) {
+        Partition partition = partitions.computeIfAbsent(TenantContext.current(), tenant -> new Partition());
+        if (!partition.loaded) {
+            load(partition);
+        }
+
+        partition.lock.readLock().lock();
+        try {
+            return partition.queue.top(limit);
+        } finally {
+            partition.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Apply a committed task change to its tenant's queue, if that queue is loaded
+     *
+     * A change arriving while the queue loads waits for the load and is then
+     * applied on top of it; put and remove are idempotent, so a change the
+     * load already saw is harmless.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Partition partition = partitions.get(event.getTenantId());
+        if (partition == null) {
+            return;
+        }
+
+        partition.lock.writeLock().lock();
+        try {
+            if (event.getStatus() == null || event.getStatus().isTerminal()) {
+                partition.queue.remove(event.getTaskId());
+            } else {
+                partition.queue.put(event.getTaskId(), new Rank(event.getTaskId(),
+                        event.getPriority(), event.getDueAt(), event.getCreatedAt()));
+            }
+        } finally {
+            partition.lock.writeLock().unlock();
+        }
+    }
+
+    private void load(Partition partition) {
+        partition.lock.writeLock().lock();
+        try {
+            if (partition.loaded) {
+                return;
+            }
+            for (Object[] row : taskRepository.findRanksByStatusIn(OPEN_STATUSES)) {
+                Long id = (Long) row[0];
+                partition.queue.put(id, new Rank(id, (TaskPriority) row[1],
+                        (LocalDateTime) row[2], (LocalDateTime) row[3]));
+            }
+            partition.loaded = true;
+            logger.debug("Loaded next-task index of tenant {} with {} open tasks",
+                    TenantContext.current(), partition.queue.size());
+        } finally {
+            partition.lock.writeLock().unlock();
+        }
+    }
+}
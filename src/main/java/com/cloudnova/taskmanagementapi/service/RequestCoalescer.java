@@ -0,0 +1,111 @@
+package com.cloudnova.taskmanagementapi.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import com.cloudnova.taskmanagementapi.tenant.TenantContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * RequestCoalescer - Single-flight execution of identical concurrent reads
+ *
+ * The first caller for a key runs the loader; callers arriving while it is
+ * still running wait on the same CompletableFuture and receive the same result
+ * (or exception) instead of issuing the same queries again. Nothing is cached:
+ * the key is released as soon as the leader finishes.
+ *
+ * Metrics: tasks.coalescing.calls, tasks.coalescing.coalesced and
+ * tasks.coalescing.ratio (coalesced / calls).
+ */
+@Component
+public class RequestCoalescer {
+
+    /**
+     * Normalized identity of a read: tenant, query name and its (normalized) argument
+     *
+     * The factories take the tenant from the current thread, so reads of
+     * different tenants never share an execution.
+     */
+    public record Key(String tenant, String query, Object argument) {
+        public static Key of(String query) {
+            return new Key(TenantContext.current(), query, null);
+        }
+
+        public static Key of(String query, Object argument) {
+            return new Key(TenantContext.current(), query, argument);
+        }
+    }
+
+    private final ConcurrentHashMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    @Autowired
+    public RequestCoalescer(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("tasks.coalescing.calls", calls, LongAdder::sum)
+                .description("Coalescable read calls")
+                .register(meterRegistry);
+        FunctionCounter.builder("tasks.coalescing.coalesced", coalesced, LongAdder::sum)
+                .description("Read calls served by another caller's in-flight execution")
+                .register(meterRegistry);
+        Gauge.builder("tasks.coalescing.ratio", this, RequestCoalescer::getCoalescingRatio)
+                .description("Fraction of read calls that were coalesced")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run the loader, or join an identical in-flight execution
+     * @param key the normalized read key
+     * @param loader the read to execute if no identical read is in flight
+     * @return the loader's result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Key key, Supplier<T> loader) {
+        calls.increment();
+
+        CompletableFuture<Object> leader = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            coalesced.increment();
+            return (T) await(existing);
+        }
+
+        try {
+            T result = loader.get();
+            leader.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            leader.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, leader);
+        }
+    }
+
+    public double getCoalescingRatio() {
+        long total = calls.sum();
+        return total == 0 ? 0.0 : (double) coalesced.sum() / total;
+    }
+
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // Rethrow the leader's exception as-is so error handling is identical for every caller
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.cloudnova.taskmanagementapi.service;
+
+import com.cloudnova.taskmanagementapi.event.TaskChangedEvent;
+import com.cloudnova.taskmanagementapi.event.TasksArchivedEvent;
+import com.cloudnova.taskmanagementapi.model.TaskStatus;
+import com.cloudnova.taskmanagementapi.repository.TaskRepository;
+import com.cloudnova.taskmanagementapi.tenant.TenantContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * TagBitmapIndex - In-memory bitmap index of tasks by tag and by status
+ *
+ * Every task of a tenant gets a dense ordinal (0, 1, 2, ...), and each tag
+ * and each {@link TaskStatus} keeps a {@link RoaringBitmap} of the ordinals
+ * that carry it. "tag=backend AND tag=urgent AND status=IN_PROGRESS"
+ * is then an intersection of three compressed bitmaps, smallest first, with
+ * no database access; only the requested page of tasks is loaded.
+ *
+ * A tenant's index is built from one query on its first tag filter and kept
+ * current from committed {@link TaskChangedEvent}s. Archival moves tasks out
+ * without per-task events, so it drops the tenant's index to be rebuilt.
+ *
+ * Ordinals are in ID order after a load. Tasks created later are appended in
+ * commit order, which can differ from ID order for concurrent creates. A
+ * deleted task's ordinal stays allocated but empty; once these holes reach
+ * {@value #MIN_HOLES_TO_COMPACT} and a quarter of the ordinals, the partition
+ * is renumbered in ID order without them.
+ */
+@Component
+public class TagBitmapIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TagBitmapIndex.class);
+
+    static final int MIN_HOLES_TO_COMPACT = 1024;
+
+    /**
+     * One page of matching task IDs, in ordinal order
+     */
+    public record Page(List<Long> ids, int totalCount) {}
+
+    private static final class Partition {
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        final Map<Long, Integer> ordinals = new HashMap<>();
+        final List<Long> ids = new ArrayList<>();
+        final List<Set<String>> tags = new ArrayList<>();
+        final List<TaskStatus> statuses = new ArrayList<>();
+        final Map<String, RoaringBitmap> byTag = new HashMap<>();
+        final Map<TaskStatus, RoaringBitmap> byStatus = new EnumMap<>(TaskStatus.class);
+        // Ordinals of deleted tasks, still allocated but in no bitmap
+        int holes;
+        volatile boolean loaded;
+
+        void put(Long id, TaskStatus status, Set<String> taskTags) {
+            Integer ordinal = ordinals.get(id);
+            if (ordinal == null) {
+                ordinal = ids.size();
+                ordinals.put(id, ordinal);
+                ids.add(id);
+                tags.add(Set.of());
+                statuses.add(null);
+            }
+            unindex(ordinal);
+            statuses.set(ordinal, status);
+            tags.set(ordinal, taskTags == null ? Set.of() : Set.copyOf(taskTags));
+            byStatus.computeIfAbsent(status, s -> new RoaringBitmap()).add(ordinal);
+            for (String tag : tags.get(ordinal)) {
+                byTag.computeIfAbsent(tag, t -> new RoaringBitmap()).add(ordinal);
+            }
+        }
+
+        void remove(Long id) {
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal != null) {
+                unindex(ordinal);
+                statuses.set(ordinal, null);
+                tags.set(ordinal, Set.of());
+                holes++;
+                if (holes >= MIN_HOLES_TO_COMPACT && holes >= ids.size() / 4) {
+                    compact();
+                }
+            }
+        }
+
+        /**
+         * Renumber the remaining tasks densely in ID order, dropping the holes
+         */
+        void compact() {
+            List<Long> liveIds = new ArrayList<>(ordinals.keySet());
+            liveIds.sort(null);
+            List<TaskStatus> liveStatuses = new ArrayList<>(liveIds.size());
+            List<Set<String>> liveTags = new ArrayList<>(liveIds.size());
+            for (Long id : liveIds) {
+                int ordinal = ordinals.get(id);
+                liveStatuses.add(statuses.get(ordinal));
+                liveTags.add(tags.get(ordinal));
+            }
+
+            ordinals.clear();
+            ids.clear();
+            tags.clear();
+            statuses.clear();
+            byTag.clear();
+            byStatus.clear();
+            holes = 0;
+            for (int i = 0; i < liveIds.size(); i++) {
+                put(liveIds.get(i), liveStatuses.get(i), liveTags.get(i));
+            }
+        }
+
+        private void unindex(int ordinal) {
+            TaskStatus status = statuses.get(ordinal);
+            if (status != null) {
+                byStatus.get(status).remove(ordinal);
+            }
+            for (String tag : tags.get(ordinal)) {
+                RoaringBitmap bitmap = byTag.get(tag);
+                bitmap.remove(ordinal);
+                if (bitmap.isEmpty()) {
+                    byTag.remove(tag);
+                }
+            }
+        }
+    }
+
+    private final TaskRepository taskRepository;
+    private final ConcurrentHashMap<String, Partition> partitions = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TagBitmapIndex(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    /**
+     * Find the current tenant's tasks that have all the given tags, and the status if given
+     * @param tags the required tags, normalized, at least one
+     * @param status optional required status
+     * @param offset the number of matches to skip
+     * @param limit the maximum number of IDs to return
+     * @return the page of matching IDs and the total number of matches
+     */
+    public Page find(Set<String> tags, TaskStatus status, int offset, int limit) {
+        Partition partition = partitions.computeIfAbsent(TenantContext.current(), tenant -> new Partition());
+        if (!partition.loaded) {
+            load(partition);
+        }
+
+        partition.lock.readLock().lock();
+        try {
+            List<RoaringBitmap> bitmaps = new ArrayList<>(tags.size() + 1);
+            for (String tag : tags) {
+                bitmaps.add(partition.byTag.get(tag));
+            }
+            if (status != null) {
+                bitmaps.add(partition.byStatus.get(status));
+            }
+            if (bitmaps.contains(null)) {
+                return new Page(List.of(), 0);
+            }
+
+            // Smallest first, so every intermediate result is at most that small
+            bitmaps.sort(Comparator.comparingInt(RoaringBitmap::cardinality));
+            RoaringBitmap matches = bitmaps.get(0);
+            for (int i = 1; i < bitmaps.size() && !matches.isEmpty(); i++) {
+                matches = RoaringBitmap.and(matches, bitmaps.get(i));
+            }
+
+            int[] ordinals = matches.range(offset, limit);
+            List<Long> ids = new ArrayList<>(ordinals.length);
+            for (int ordinal : ordinals) {
+                ids.add(partition.ids.get(ordinal));
+            }
+            return new Page(ids, matches.cardinality());
+        } finally {
+            partition.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Apply a committed task change to its tenant's index, if that index is loaded
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Partition partition = partitions.get(event.getTenantId());
+        if (partition == null) {
+            return;
+        }
+
+        partition.lock.writeLock().lock();
+        try {
+            // Not loaded yet: the load will read the committed change itself
+            if (!partition.loaded) {
+                return;
+            }
+            if (event.getType() == TaskChangedEvent.Type.DELETED) {
+                partition.remove(event.getTaskId());
+            } else {
+                partition.put(event.getTaskId(), event.getStatus(), event.getTags());
+            }
+        } finally {
+            partition.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drop the tenant's index after an archival batch; the next tag filter rebuilds it
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksArchived(TasksArchivedEvent event) {
+        partitions.remove(event.getTenantId());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void load(Partition partition) {
+        partition.lock.writeLock().lock();
+        try {
+            if (partition.loaded) {
+                return;
+            }
+            for (Object[] row : taskRepository.findTagRows()) {
+                partition.put((Long) row[0], (TaskStatus) row[1], (Set<String>) row[2]);
+            }
+            partition.loaded = true;
+            logger.debug("Loaded tag index of tenant {} with {} tasks and {} tags",
+                    TenantContext.current(), partition.ids.size(), partition.byTag.size());
+        } finally {
+            partition.lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.cloudnova.taskmanagementapi.service;
+
+import com.cloudnova.taskmanagementapi.event.TasksArchivedEvent;
+import com.cloudnova.taskmanagementapi.model.ArchivedTask;
+import com.cloudnova.taskmanagementapi.model.Task;
+import com.cloudnova.taskmanagementapi.model.TaskStatus;
+import com.cloudnova.taskmanagementapi.repository.ArchivedTaskRepository;
+import com.cloudnova.taskmanagementapi.repository.TaskRepository;
+import com.cloudnova.taskmanagementapi.repository.bulkhead.Workload;
+import com.cloudnova.taskmanagementapi.repository.bulkhead.WorkloadContext;
+import com.cloudnova.taskmanagementapi.repository.sharding.ShardContext;
+import com.cloudnova.taskmanagementapi.repository.sharding.ShardDataSources;
+import com.cloudnova.taskmanagementapi.tenant.TenantContext;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * TaskArchiveService - Moves old completed and cancelled tasks to the archive table
+ *
+ * Tasks in a terminal status that have not been updated for task.archive.after
+ * are copied to archived_tasks and deleted from tasks, in batches of
+ * task.archive.batch-size. Each batch is its own transaction, so a large
+ * backlog never holds locks or a persistence context for the whole run, and
+ * the hot table shrinks as the run progresses. Tenants are archived one after
+ * another, each in its own tenant-scoped transactions.
+ *
+ * With the "sharded" profile each shard is archived on its own, with the
+ * shard bound for the whole batch: the lock, the copy and the delete run in
+ * one transaction on the shard that holds the tasks, and the copies stay on
+ * that shard.
+ */
+@Service
+public class TaskArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskArchiveService.class);
+
+    private static final List<TaskStatus> ARCHIVABLE = List.of(TaskStatus.COMPLETED, TaskStatus.CANCELLED);
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archiveRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    // Number of shards to archive one by one, 0 when not sharded
+    private final int shards;
+    private final boolean enabled;
+    private final Duration after;
+    private final int batchSize;
+
+    // Scheduled and manual runs must not archive the same rows concurrently
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Autowired
+    public TaskArchiveService(TaskRepository taskRepository,
+                              ArchivedTaskRepository archiveRepository,
+                              EntityManager entityManager,
+                              ApplicationEventPublisher eventPublisher,
+                              PlatformTransactionManager transactionManager,
+                              ObjectProvider<ShardDataSources> shardDataSources,
+                              @Value("${task.archive.enabled:true}") boolean enabled,
+                              @Value("${task.archive.after:30d}") Duration after,
+                              @Value("${task.archive.batch-size:500}") int batchSize) {
+        this.taskRepository = taskRepository;
+        this.archiveRepository = archiveRepository;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        ShardDataSources sharded = shardDataSources.getIfAvailable();
+        this.shards = sharded == null ? 0 : sharded.size();
+        this.enabled = enabled;
+        this.after = after;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(initialDelayString = "${task.archive.initial-delay:5m}",
+            fixedDelayString = "${task.archive.interval:1h}")
+    public void scheduledArchive() {
+        if (enabled) {
+            archive();
+        }
+    }
+
+    /**
+     * Archive every eligible task now
+     * @return the number of tasks archived, or -1 if another run is in progress
+     */
+    public int archive() {
+        if (!running.compareAndSet(false, true)) {
+            logger.debug("Archival already running, skipping");
+            return -1;
+        }
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minus(after);
+            int total = 0;
+            for (String tenant : new TreeSet<>(taskRepository.findTenantIds())) {
+                total += TenantContext.callAs(tenant,
+                        () -> WorkloadContext.callAs(Workload.BACKGROUND, () -> archiveTenant(cutoff)));
+            }
+
+            if (total > 0) {
+                logger.info("Archived {} tasks last updated before {}", total, cutoff);
+            }
+            return total;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int archiveTenant(LocalDateTime cutoff) {
+        if (shards == 0) {
+            return archiveBatches(cutoff);
+        }
+        int total = 0;
+        for (int shard = 0; shard < shards; shard++) {
+            total += onShard(shard, () -> archiveBatches(cutoff));
+        }
+        return total;
+    }
+
+    private int archiveBatches(LocalDateTime cutoff) {
+        int total = 0;
+        int moved;
+        do {
+            Integer batch = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            moved = batch == null ? 0 : batch;
+            total += moved;
+        } while (moved > 0);
+        return total;
+    }
+
+    private static int onShard(int shard, Supplier<Integer> work) {
+        try {
+            return ShardContext.callOn(shard, work::get);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Task> batch = taskRepository.findArchivable(ARCHIVABLE, cutoff, PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Set<TaskStatus> statuses = EnumSet.noneOf(TaskStatus.class);
+        batch.forEach(task -> statuses.add(task.getStatus()));
+
+        archiveRepository.saveAll(batch.stream().map(ArchivedTask::from).toList());
+        taskRepository.deleteAllByIdInBatch(batch.stream().map(Task::getId).toList());
+        entityManager.flush();
+        entityManager.clear();
+
+        eventPublisher.publishEvent(new TasksArchivedEvent(TenantContext.current(), batch.size(), statuses));
+        return batch.size();
+    }
+}
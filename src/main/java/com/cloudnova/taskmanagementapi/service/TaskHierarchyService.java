@@ -0,0 +1,262 @@
+package com.cloudnova.taskmanagementapi.service;
+
+import com.cloudnova.taskmanagementapi.event.TaskChangedEvent;
+import com.cloudnova.taskmanagementapi.exception.TaskNotFoundException;
+import com.cloudnova.taskmanagementapi.model.Task;
+import com.cloudnova.taskmanagementapi.model.TaskStatus;
+import com.cloudnova.taskmanagementapi.repository.TaskClosureRepository;
+import com.cloudnova.taskmanagementapi.repository.TaskRepository;
+import com.cloudnova.taskmanagementapi.tenant.TenantContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TaskHierarchyService - Parent/child relationships between tasks (epics and subtasks)
+ *
+ * The hierarchy is stored twice: each task's parentId, for display, and the
+ * {@link com.cloudnova.taskmanagementapi.model.TaskClosure} table, which makes
+ * descendants, status rollups and subtree moves single indexed queries
+ * whatever the depth of the tree.
+ *
+ * Descendant reads join the closure table with the tasks table. Where tasks
+ * are not in that table (task.hierarchy.join-tasks=false, the columnar
+ * profile), the descendant IDs are read from the closure table and the tasks
+ * are loaded through the TaskRepository.
+ *
+ * Rules:
+ * - A task cannot be moved under itself or one of its descendants.
+ * - A task with subtasks cannot be deleted; move or delete them first.
+ * - When the last open descendant of a task is completed or cancelled, and at
+ *   least one of them completed, the task is completed too, and so on upward.
+ */
+@Service
+@Transactional
+public class TaskHierarchyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskHierarchyService.class);
+
+    private final TaskRepository taskRepository;
+    private final TaskClosureRepository closureRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean joinTasks;
+
+    @Autowired
+    public TaskHierarchyService(TaskRepository taskRepository,
+                                TaskClosureRepository closureRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${task.hierarchy.join-tasks:true}") boolean joinTasks) {
+        this.taskRepository = taskRepository;
+        this.closureRepository = closureRepository;
+        this.eventPublisher = eventPublisher;
+        this.joinTasks = joinTasks;
+    }
+
+    /**
+     * Get all descendants of a task, level by level
+     * @param id the task ID
+     * @return the descendants, children first
+     * @throws TaskNotFoundException if task not found
+     */
+    @Transactional(readOnly = true)
+    public List<Task> getDescendants(Long id) {
+        logger.debug("Retrieving descendants of task {}", id);
+
+        List<Task> descendants = joinTasks ? closureRepository.findDescendants(id) : loadDescendants(id);
+        if (descendants.isEmpty()) {
+            requireTask(id);
+        }
+        return descendants;
+    }
+
+    /**
+     * Count the descendants of a task by status
+     * @param id the task ID
+     * @return descendant counts for every status, zero included
+     * @throws TaskNotFoundException if task not found
+     */
+    @Transactional(readOnly = true)
+    public Map<TaskStatus, Long> getProgress(Long id) {
+        logger.debug("Computing progress of task {}", id);
+
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            counts.put(status, 0L);
+        }
+        if (!joinTasks) {
+            List<Task> descendants = loadDescendants(id);
+            if (descendants.isEmpty()) {
+                requireTask(id);
+            }
+            for (Task descendant : descendants) {
+                counts.merge(descendant.getStatus(), 1L, Long::sum);
+            }
+            return counts;
+        }
+
+        List<Object[]> rows = closureRepository.countDescendantsByStatus(id);
+        if (rows.isEmpty()) {
+            requireTask(id);
+        }
+        for (Object[] row : rows) {
+            counts.put((TaskStatus) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    /**
+     * Move a task, with its whole subtree, under a new parent
+     * @param id the task to move
+     * @param parentId the new parent, or null to make the task a root
+     * @return the moved task
+     * @throws TaskNotFoundException if either task is not found
+     * @throws IllegalArgumentException if the move would create a cycle
+     */
+    public Task move(Long id, Long parentId) {
+        logger.debug("Moving task {} under {}", id, parentId);
+
+        Task task = requireTask(id);
+        if (parentId != null) {
+            requireTask(parentId);
+            if (parentId.equals(id) || closureRepository.existsByAncestorIdAndDescendantId(id, parentId)) {
+                throw new IllegalArgumentException("Task " + parentId + " is task " + id
+                        + " or one of its subtasks; moving would create a cycle");
+            }
+        }
+
+        String tenant = TenantContext.current();
+        Long previousParentId = task.getParentId();
+        // A standalone task made a root stays without closure rows
+        if (parentId != null || closureRepository.countByAncestorId(id) > 0) {
+            closureRepository.insertSelf(tenant, id);
+            closureRepository.detachSubtree(tenant, id);
+            if (parentId != null) {
+                closureRepository.insertSelf(tenant, parentId);
+                closureRepository.attachSubtree(tenant, id, parentId);
+            } else {
+                dropIfStandalone(tenant, id);
+            }
+        }
+        if (previousParentId != null) {
+            dropIfStandalone(tenant, previousParentId);
+        }
+
+        TaskStatus status = task.getStatus();
+        task.setParentId(parentId);
+        Task savedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(savedTask, status));
+        logger.info("Moved task {} under {}", id, parentId);
+
+        return savedTask;
+    }
+
+    /**
+     * Link a newly created task under its parentId, if it has one
+     * @param task the saved task
+     * @throws IllegalArgumentException if the parent does not exist
+     */
+    public void attachNew(Task task) {
+        if (task.getParentId() == null) {
+            return;
+        }
+        if (!taskRepository.existsById(task.getParentId())) {
+            throw new IllegalArgumentException("Parent task not found with ID: " + task.getParentId());
+        }
+
+        String tenant = TenantContext.current();
+        closureRepository.insertSelf(tenant, task.getId());
+        closureRepository.insertSelf(tenant, task.getParentId());
+        closureRepository.attachSubtree(tenant, task.getId(), task.getParentId());
+    }
+
+    /**
+     * Remove a task that is about to be deleted from the hierarchy
+     * @param task the task being deleted
+     * @throws IllegalArgumentException if the task has subtasks
+     */
+    public void detachForDelete(Task task) {
+        long rows = closureRepository.countByAncestorId(task.getId());
+        if (rows > 1) {
+            throw new IllegalArgumentException("Task " + task.getId()
+                    + " has subtasks; move or delete them first");
+        }
+        if (rows == 1) {
+            String tenant = TenantContext.current();
+            closureRepository.deleteLeaf(tenant, task.getId());
+            if (task.getParentId() != null) {
+                dropIfStandalone(tenant, task.getParentId());
+            }
+        }
+    }
+
+    /**
+     * Complete the ancestors whose subtree became finished by a task's status change
+     * @param task the task that just became COMPLETED or CANCELLED
+     */
+    public void propagateCompletion(Task task) {
+        Long parentId = task.getParentId();
+        while (parentId != null) {
+            Task parent = taskRepository.findById(parentId).orElse(null);
+            if (parent == null || parent.getStatus().isTerminal()) {
+                return;
+            }
+
+            Map<TaskStatus, Long> progress = getProgress(parentId);
+            boolean finished = progress.get(TaskStatus.TODO) == 0 && progress.get(TaskStatus.IN_PROGRESS) == 0;
+            if (!finished || progress.get(TaskStatus.COMPLETED) == 0) {
+                return;
+            }
+
+            TaskStatus previousStatus = parent.getStatus();
+            parent.setStatus(TaskStatus.COMPLETED);
+            Task savedParent = taskRepository.save(parent);
+            eventPublisher.publishEvent(TaskChangedEvent.updated(savedParent, previousStatus));
+            logger.info("Completed task {} after its last open subtask finished", parentId);
+
+            parentId = savedParent.getParentId();
+        }
+    }
+
+    /**
+     * Remove the depth-0 row of a task left with neither a parent nor subtasks,
+     * so that standalone tasks have no closure rows and can be archived
+     */
+    private void dropIfStandalone(String tenant, Long id) {
+        if (closureRepository.countByAncestorId(id) == 1 && closureRepository.countByDescendantId(id) == 1) {
+            closureRepository.deleteLeaf(tenant, id);
+        }
+    }
+
+    /**
+     * Descendants in closure order, loaded through the TaskRepository rather than joined
+     */
+    private List<Task> loadDescendants(Long id) {
+        List<Long> ids = closureRepository.findDescendantIds(id);
+        Map<Long, Task> byId = new HashMap<>(ids.size() * 2);
+        taskRepository.findAllById(ids).forEach(task -> byId.put(task.getId(), task));
+
+        List<Task> descendants = new ArrayList<>(ids.size());
+        for (Long descendantId : ids) {
+            Task task = byId.get(descendantId);
+            if (task != null) {
+                descendants.add(task);
+            }
+        }
+        return descendants;
+    }
+
+    private Task requireTask(Long id) {
+        return taskRepository.findById(id)
+                .orElseThrow(() -> TaskNotFoundException.forId(id));
+    }
+}
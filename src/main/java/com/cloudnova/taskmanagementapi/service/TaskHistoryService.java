@@ -0,0 +1,329 @@
+package com.cloudnova.taskmanagementapi.service;
+
+import com.cloudnova.taskmanagementapi.dto.TaskHistoryResponse;
+import com.cloudnova.taskmanagementapi.event.TaskChangedEvent;
+import com.cloudnova.taskmanagementapi.exception.TaskNotFoundException;
+import com.cloudnova.taskmanagementapi.model.TaskHistoryEntry;
+import com.cloudnova.taskmanagementapi.model.TaskHistoryOutbox;
+import com.cloudnova.taskmanagementapi.repository.ArchivedTaskRepository;
+import com.cloudnova.taskmanagementapi.repository.TaskHistoryOutboxRepository;
+import com.cloudnova.taskmanagementapi.repository.TaskHistoryRepository;
+import com.cloudnova.taskmanagementapi.repository.TaskRepository;
+import com.cloudnova.taskmanagementapi.repository.bulkhead.Workload;
+import com.cloudnova.taskmanagementapi.repository.bulkhead.WorkloadContext;
+import com.cloudnova.taskmanagementapi.tenant.TenantContext;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TaskHistoryService - Append-only audit history of task changes, written off the request path
+ *
+ * Every task change becomes a snapshot row in task_history. The request's
+ * transaction only inserts a narrow outbox row (one unindexed insert per
+ * change, with the payload as JSON). After commit, the snapshot is offered to
+ * a bounded ring buffer (an ArrayBlockingQueue); a single writer thread drains
+ * it in batches, inserting the history rows and deleting their outbox rows in
+ * one transaction per tenant.
+ *
+ * Nothing is lost: a change whose snapshot is still in the buffer when the
+ * process dies, or that did not fit in a full buffer, keeps its outbox row,
+ * and the outbox sweep moves it into task_history later. The writer and the
+ * sweep lock outbox rows before moving them, so each change is written once.
+ *
+ * With task.history.outbox=false the in-transaction insert is skipped; a full
+ * buffer then makes the committing thread write its own snapshot, and a crash
+ * loses the snapshots still in the buffer.
+ */
+@Service
+public class TaskHistoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskHistoryService.class);
+
+    // Transaction resource key for the snapshots of the current transaction
+    private static final Object PENDING_ENTRIES = new Object();
+
+    /**
+     * A snapshot waiting to be written, with its outbox row if there is one
+     */
+    private record Pending(String tenant, Long outboxId, TaskHistoryEntry entry) {}
+
+    private final TaskHistoryRepository historyRepository;
+    private final TaskHistoryOutboxRepository outboxRepository;
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archiveRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final boolean outbox;
+    private final int batchSize;
+    private final Duration sweepGrace;
+    private final BlockingQueue<Pending> buffer;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    @Autowired
+    public TaskHistoryService(TaskHistoryRepository historyRepository,
+                              TaskHistoryOutboxRepository outboxRepository,
+                              TaskRepository taskRepository,
+                              ArchivedTaskRepository archiveRepository,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${task.history.enabled:true}") boolean enabled,
+                              @Value("${task.history.outbox:true}") boolean outbox,
+                              @Value("${task.history.buffer-capacity:8192}") int bufferCapacity,
+                              @Value("${task.history.batch-size:256}") int batchSize,
+                              @Value("${task.history.sweep-grace:1m}") Duration sweepGrace) {
+        this.historyRepository = historyRepository;
+        this.outboxRepository = outboxRepository;
+        this.taskRepository = taskRepository;
+        this.archiveRepository = archiveRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Also used from afterCommit, where the finished transaction is still bound
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.outbox = outbox;
+        this.batchSize = batchSize;
+        this.sweepGrace = sweepGrace;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+    }
+
+    @PostConstruct
+    void startWriter() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = Thread.ofPlatform().name("task-history-writer").daemon()
+                .start(() -> WorkloadContext.runAs(Workload.BACKGROUND, this::drain));
+    }
+
+    /**
+     * Stop the writer after it has written what is in the buffer
+     */
+    @PreDestroy
+    void stopWriter() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    /**
+     * Record a task change in the current transaction's outbox, and queue its snapshot for after commit
+     * @param event the task change
+     */
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        TaskHistoryEntry entry = TaskHistoryEntry.from(event);
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            Long outboxId = outbox
+                    ? transactionTemplate.execute(status -> outboxRepository.save(toOutbox(entry)).getId())
+                    : null;
+            enqueue(List.of(new Pending(event.getTenantId(), outboxId, entry)));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Pending> pending = (List<Pending>) TransactionSynchronizationManager.getResource(PENDING_ENTRIES);
+        if (pending == null) {
+            List<Pending> created = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(PENDING_ENTRIES, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_ENTRIES);
+                }
+            });
+            pending = created;
+        }
+        Long outboxId = outbox ? outboxRepository.save(toOutbox(entry)).getId() : null;
+        pending.add(new Pending(event.getTenantId(), outboxId, entry));
+    }
+
+    /**
+     * Get the change history of a task, oldest first
+     *
+     * Changes become visible once the writer has flushed them, usually within
+     * milliseconds of the commit.
+     *
+     * @param id the task ID, of a live, archived or deleted task
+     * @return one entry per change, with the fields it changed
+     * @throws TaskNotFoundException if the task has no history and does not exist
+     */
+    @Transactional(readOnly = true)
+    public List<TaskHistoryResponse> getHistory(Long id) {
+        List<TaskHistoryEntry> entries = historyRepository.findByTaskIdOrderByOccurredAtAscIdAsc(id);
+        if (entries.isEmpty() && !taskRepository.existsById(id) && !archiveRepository.existsById(id)) {
+            throw TaskNotFoundException.forId(id);
+        }
+
+        List<TaskHistoryResponse> history = new ArrayList<>(entries.size());
+        TaskHistoryEntry previous = null;
+        for (TaskHistoryEntry entry : entries) {
+            history.add(TaskHistoryResponse.between(previous, entry));
+            previous = entry;
+        }
+        return history;
+    }
+
+    /**
+     * Move outbox rows older than the grace period into task_history
+     *
+     * Picks up changes that were committed but not written by the writer:
+     * snapshots lost in a crash or dropped by a full buffer.
+     *
+     * @return the number of history entries written
+     */
+    @Scheduled(initialDelayString = "${task.history.sweep-initial-delay:10s}",
+            fixedDelayString = "${task.history.sweep-interval:1m}")
+    public int sweepOutbox() {
+        if (!enabled) {
+            return 0;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(sweepGrace);
+        int total = 0;
+        for (String tenant : new TreeSet<>(outboxRepository.findTenantIds())) {
+            total += TenantContext.callAs(tenant,
+                    () -> WorkloadContext.callAs(Workload.BACKGROUND, () -> sweepTenant(cutoff)));
+        }
+        if (total > 0) {
+            logger.info("Moved {} task history entries from the outbox", total);
+        }
+        return total;
+    }
+
+    private int sweepTenant(LocalDateTime cutoff) {
+        int total = 0;
+        int moved;
+        do {
+            Integer batch = transactionTemplate.execute(status -> {
+                List<TaskHistoryOutbox> rows = outboxRepository.findPendingBefore(cutoff, PageRequest.of(0, batchSize));
+                historyRepository.saveAll(rows.stream().map(this::fromOutbox).toList());
+                outboxRepository.deleteAllInBatch(rows);
+                return rows.size();
+            });
+            moved = batch == null ? 0 : batch;
+            total += moved;
+        } while (moved == batchSize);
+        return total;
+    }
+
+    private void enqueue(List<Pending> entries) {
+        for (Pending pending : entries) {
+            if (!buffer.offer(pending)) {
+                if (pending.outboxId() != null) {
+                    // The outbox row stays; the sweep writes it
+                    logger.debug("History buffer full, leaving change of task {} to the outbox sweep",
+                            pending.entry().getTaskId());
+                } else {
+                    write(List.of(pending));
+                }
+            }
+        }
+    }
+
+    /**
+     * Writer thread: block for the first snapshot, then take whatever else is queued, up to a batch
+     */
+    private void drain() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                Pending first = buffer.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // Snapshots with an outbox row are retried by the sweep
+                logger.error("Failed to write {} task history entries", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Pending> batch) {
+        Map<String, List<Pending>> byTenant = new LinkedHashMap<>();
+        for (Pending pending : batch) {
+            byTenant.computeIfAbsent(pending.tenant(), tenant -> new ArrayList<>()).add(pending);
+        }
+        byTenant.forEach((tenant, entries) -> TenantContext.runAs(tenant,
+                () -> transactionTemplate.executeWithoutResult(status -> writeTenant(entries))));
+    }
+
+    private void writeTenant(List<Pending> entries) {
+        List<Long> outboxIds = entries.stream().map(Pending::outboxId).filter(Objects::nonNull).toList();
+        Set<Long> claimed = outboxIds.isEmpty() ? Set.of() : new HashSet<>(outboxRepository.lockIds(outboxIds));
+
+        // Rows already moved by the sweep are skipped
+        historyRepository.saveAll(entries.stream()
+                .filter(pending -> pending.outboxId() == null || claimed.contains(pending.outboxId()))
+                .map(Pending::entry)
+                .toList());
+        if (!claimed.isEmpty()) {
+            outboxRepository.deleteAllByIdInBatch(claimed);
+        }
+    }
+
+    private TaskHistoryOutbox toOutbox(TaskHistoryEntry entry) {
+        try {
+            return new TaskHistoryOutbox(objectMapper.writeValueAsString(entry));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize history of task " + entry.getTaskId(), e);
+        }
+    }
+
+    private TaskHistoryEntry fromOutbox(TaskHistoryOutbox row) {
+        try {
+            return objectMapper.readValue(row.getPayload(), TaskHistoryEntry.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupt task history outbox row " + row.getId(), e);
+        }
+    }
+}
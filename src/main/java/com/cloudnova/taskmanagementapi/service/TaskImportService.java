@@ -0,0 +1,359 @@
+package com.cloudnova.taskmanagementapi.service;
+
+import com.cloudnova.taskmanagementapi.dto.TaskCreateRequest;
+import com.cloudnova.taskmanagementapi.event.TaskChangedEvent;
+import com.cloudnova.taskmanagementapi.model.Task;
+import com.cloudnova.taskmanagementapi.repository.ArchivedTaskRepository;
+import com.cloudnova.taskmanagementapi.repository.TaskRepository;
+import com.cloudnova.taskmanagementapi.repository.bulkhead.Workload;
+import com.cloudnova.taskmanagementapi.repository.bulkhead.WorkloadContext;
+import com.cloudnova.taskmanagementapi.tenant.TenantContext;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * TaskImportService - Streaming bulk import of tasks from NDJSON or CSV
+ *
+ * Rows are parsed one at a time from the request body, validated with the
+ * same Bean Validation rules as {@link TaskCreateRequest}, and inserted in
+ * chunks, each chunk in its own transaction. Duplicate titles are resolved
+ * per chunk with a single IN query; earlier chunks are already committed,
+ * so duplicates across chunks are caught by the same query.
+ *
+ * CSV input must start with a header row naming the columns, in any order:
+ * {@code title} (required), {@code description}, {@code status},
+ * {@code priority}, {@code dueAt} (ISO-8601 local date-time) and {@code tags}
+ * (separated by ';'). These are the fields an NDJSON row can carry except
+ * parentId. An unknown or repeated column fails the import before any row is
+ * read, instead of being silently dropped. A row whose column count differs
+ * from the header is rejected.
+ */
+@Service
+public class TaskImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskImportService.class);
+
+    private static final int MAX_RETAINED_JOBS = 100;
+
+    private static final List<String> CSV_COLUMNS =
+            List.of("title", "description", "status", "priority", "dueAt", "tags");
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archiveRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final ObjectReader ndjsonReader;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    // Most recent jobs, oldest evicted first
+    private final Map<String, ImportJob> jobs = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ImportJob> eldest) {
+            return size() > MAX_RETAINED_JOBS;
+        }
+    };
+
+    @Autowired
+    public TaskImportService(TaskRepository taskRepository,
+                             ArchivedTaskRepository archiveRepository,
+                             EntityManager entityManager,
+                             PlatformTransactionManager transactionManager,
+                             ApplicationEventPublisher eventPublisher,
+                             Validator validator,
+                             ObjectMapper objectMapper,
+                             @Value("${task.import.chunk-size:500}") int chunkSize,
+                             @Value("${task.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.taskRepository = taskRepository;
+        this.archiveRepository = archiveRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.ndjsonReader = objectMapper.readerFor(TaskCreateRequest.class);
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * Import tasks from a stream of NDJSON lines
+     * @param body the request body
+     * @return the finished job report
+     */
+    public ImportJob importNdjson(Reader body) {
+        ImportJob job = register("ndjson");
+        BufferedReader reader = new BufferedReader(body);
+        ChunkWriter writer = new ChunkWriter(job);
+
+        return run(job, writer, () -> {
+            String line;
+            long row = 0;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                row++;
+                job.rowRead();
+                try {
+                    writer.accept(row, ndjsonReader.readValue(line));
+                } catch (JsonProcessingException e) {
+                    job.rejected(row, "Malformed JSON: " + e.getOriginalMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * Import tasks from a CSV stream with a header row
+     * @param body the request body
+     * @return the finished job report
+     */
+    public ImportJob importCsv(Reader body) {
+        ImportJob job = register("csv");
+        CsvRecordReader reader = new CsvRecordReader(body);
+        ChunkWriter writer = new ChunkWriter(job);
+
+        return run(job, writer, () -> {
+            List<String> header = reader.next();
+            if (header == null) {
+                return;
+            }
+            Map<String, Integer> columns = csvColumns(header);
+
+            List<String> record;
+            long row = 0;
+            while ((record = reader.next()) != null) {
+                row++;
+                job.rowRead();
+                if (record.size() != header.size()) {
+                    job.rejected(row, "Expected " + header.size() + " columns, found " + record.size());
+                    continue;
+                }
+                try {
+                    writer.accept(row, csvRequest(record, columns));
+                } catch (IllegalArgumentException e) {
+                    job.rejected(row, e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * Get a job by ID
+     * @param jobId the job ID
+     * @return the job, if still retained
+     */
+    public Optional<ImportJob> getJob(String jobId) {
+        synchronized (jobs) {
+            // Jobs are only visible to the tenant that started them
+            return Optional.ofNullable(jobs.get(jobId))
+                    .filter(job -> job.getTenantId().equals(TenantContext.current()));
+        }
+    }
+
+    /**
+     * Get the retained jobs, oldest first
+     * @return recent import jobs
+     */
+    public List<ImportJob> getJobs() {
+        synchronized (jobs) {
+            String tenant = TenantContext.current();
+            return jobs.values().stream().filter(job -> job.getTenantId().equals(tenant)).toList();
+        }
+    }
+
+    private ImportJob register(String format) {
+        ImportJob job = new ImportJob(TenantContext.current(), format, maxReportedErrors);
+        synchronized (jobs) {
+            jobs.put(job.getId(), job);
+        }
+        logger.info("Started {} import job {}", format, job.getId());
+        return job;
+    }
+
+    private ImportJob run(ImportJob job, ChunkWriter writer, RowSource source) {
+        try {
+            source.read();
+            writer.flush();
+            job.finish(ImportJob.State.COMPLETED, "Import completed");
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Import job {} failed after {} rows: {}", job.getId(), job.getRowsRead(), e.getMessage());
+            job.finish(ImportJob.State.FAILED, e.getMessage());
+        }
+        logger.info("Import job {} finished: {} imported, {} duplicates, {} failed",
+                job.getId(), job.getImported(), job.getDuplicates(), job.getFailed());
+        return job;
+    }
+
+    /**
+     * Map the CSV header's column names to their positions
+     * @throws IllegalArgumentException if a column is unknown or repeated, or title is missing
+     */
+    private static Map<String, Integer> csvColumns(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).trim();
+            if (!CSV_COLUMNS.contains(name)) {
+                throw new IllegalArgumentException("Unknown CSV column '" + name + "', expected "
+                        + String.join(", ", CSV_COLUMNS));
+            }
+            if (columns.putIfAbsent(name, i) != null) {
+                throw new IllegalArgumentException("Duplicate CSV column '" + name + "'");
+            }
+        }
+        if (!columns.containsKey("title")) {
+            throw new IllegalArgumentException("CSV header must contain a 'title' column");
+        }
+        return columns;
+    }
+
+    /**
+     * Build the create request of one CSV record
+     * @throws IllegalArgumentException if dueAt is not an ISO-8601 date-time
+     */
+    private static TaskCreateRequest csvRequest(List<String> record, Map<String, Integer> columns) {
+        TaskCreateRequest request = new TaskCreateRequest(
+                column(record, columns, "title"),
+                column(record, columns, "description"),
+                column(record, columns, "status"));
+        request.setPriority(column(record, columns, "priority"));
+
+        String dueAt = column(record, columns, "dueAt");
+        if (dueAt != null) {
+            try {
+                request.setDueAt(LocalDateTime.parse(dueAt.trim()));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("dueAt: '" + dueAt + "' is not an ISO-8601 date-time");
+            }
+        }
+
+        String tags = column(record, columns, "tags");
+        if (tags != null) {
+            request.setTags(Arrays.asList(tags.split(";")));
+        }
+        return request;
+    }
+
+    private static String column(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null) {
+            return null;
+        }
+        String value = record.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    @FunctionalInterface
+    private interface RowSource {
+        void read() throws IOException;
+    }
+
+    /**
+     * Buffers valid rows and writes them one chunk per transaction
+     */
+    private class ChunkWriter {
+
+        private final ImportJob job;
+        // title -> (row number, task); keyed by title to drop in-chunk duplicates
+        private final Map<String, PendingRow> chunk = new LinkedHashMap<>();
+
+        private record PendingRow(long row, Task task) {}
+
+        ChunkWriter(ImportJob job) {
+            this.job = job;
+        }
+
+        void accept(long row, TaskCreateRequest request) {
+            Set<ConstraintViolation<TaskCreateRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                job.rejected(row, violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                return;
+            }
+
+            if (request.getParentId() != null) {
+                job.rejected(row, "parentId: not supported by import, use PUT /tasks/{id}/parent");
+                return;
+            }
+
+            Task task;
+            try {
+                task = request.toTask();
+            } catch (IllegalArgumentException e) {
+                job.rejected(row, e.getMessage());
+                return;
+            }
+
+            if (chunk.putIfAbsent(task.getTitle(), new PendingRow(row, task)) != null) {
+                job.duplicate(row, task.getTitle());
+                return;
+            }
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+
+            // Chunks are written through the background pool, not the interactive write pool
+            Integer written = WorkloadContext.callAs(Workload.BACKGROUND, () -> transactionTemplate.execute(status -> {
+                Set<String> existing = new HashSet<>(taskRepository.findTitlesIn(chunk.keySet()));
+                existing.addAll(archiveRepository.findTitlesIn(chunk.keySet()));
+                List<Task> batch = new ArrayList<>(chunk.size());
+                for (PendingRow pending : chunk.values()) {
+                    if (existing.contains(pending.task().getTitle())) {
+                        job.duplicate(pending.row(), pending.task().getTitle());
+                    } else {
+                        batch.add(pending.task());
+                    }
+                }
+                taskRepository.saveAll(batch);
+                batch.forEach(task -> eventPublisher.publishEvent(TaskChangedEvent.created(task)));
+                entityManager.flush();
+                // Do not let a multi-million row import accumulate in the persistence context
+                entityManager.clear();
+                return batch.size();
+            }));
+
+            job.imported(written == null ? 0 : written);
+            logger.debug("Import job {}: {} rows read, {} imported",
+                    job.getId(), job.getRowsRead(), job.getImported());
+            chunk.clear();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.cloudnova.taskmanagementapi.service;
+
+import com.cloudnova.taskmanagementapi.event.TaskChangedEvent;
+import com.cloudnova.taskmanagementapi.event.TasksArchivedEvent;
+import com.cloudnova.taskmanagementapi.model.TaskStatus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * TaskQueryCache - Bounded cache of list, status, search and statistics results
+ *
+ * Entries are keyed by the normalized query ({@link RequestCoalescer.Key}) and
+ * stamped with the write generation of their scope: a per-status generation for
+ * status lists, the global generation for everything else. Writes only bump
+ * generations; stale entries are detected and reloaded on their next read, so
+ * a write to one TODO task leaves the COMPLETED list cached.
+ *
+ * Misses are loaded through the {@link RequestCoalescer}. Generations are
+ * bumped after the writing transaction commits, and the leader of a coalesced
+ * load takes the generation snapshot before it queries, so every caller of
+ * that load gets the result with the leader's stamp. A result is only stored
+ * if its stamp is still current after loading, so a read racing a write never
+ * stores a stale result under the current stamp. A caller whose own snapshot
+ * is newer than the stamp joined a load that started before a write it must
+ * see, and loads again.
+ *
+ * Every tenant has its own partition (entries and generations), bounded by
+ * task.query-cache.max-entries-per-tenant, so one tenant's query volume can
+ * neither evict nor invalidate another tenant's entries. Partitions themselves
+ * are kept for at most task.query-cache.max-tenants tenants.
+ *
+ * Eviction is Caffeine's W-TinyLFU: a new entry is only admitted over the
+ * eviction candidate if it has been requested more often, so a burst of
+ * one-off searches does not push out the hot status lists.
+ *
+ * Metrics: cache.gets (result=hit|miss) and cache.size, tagged cache=tasks.query.
+ */
+@Component
+public class TaskQueryCache {
+
+    // Query name of stamped loads; their argument is the original key
+    private static final String STAMPED_LOAD = "query-cache.load";
+
+    private record Entry(long generation, Object value) {}
+
+    /**
+     * One tenant's entries and write generations
+     */
+    private static final class Partition {
+        final Cache<RequestCoalescer.Key, Entry> entries;
+        final AtomicLong globalGeneration = new AtomicLong();
+        final Map<TaskStatus, AtomicLong> statusGenerations = new EnumMap<>(TaskStatus.class);
+
+        Partition(long maxEntries, Duration expireAfterWrite) {
+            this.entries = Caffeine.newBuilder()
+                    .maximumSize(maxEntries)
+                    .expireAfterWrite(expireAfterWrite)
+                    .build();
+            for (TaskStatus status : TaskStatus.values()) {
+                statusGenerations.put(status, new AtomicLong());
+            }
+        }
+
+        AtomicLong generation(TaskStatus scope) {
+            return scope == null ? globalGeneration : statusGenerations.get(scope);
+        }
+
+        void bump(TaskStatus status) {
+            if (status != null) {
+                statusGenerations.get(status).incrementAndGet();
+            }
+        }
+    }
+
+    private final RequestCoalescer coalescer;
+    private final boolean enabled;
+    private final Cache<String, Partition> partitions;
+    private final long maxEntriesPerTenant;
+    private final Duration expireAfterWrite;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @Autowired
+    public TaskQueryCache(RequestCoalescer coalescer,
+                          MeterRegistry meterRegistry,
+                          @Value("${task.query-cache.enabled:true}") boolean enabled,
+                          @Value("${task.query-cache.max-entries-per-tenant:200}") long maxEntriesPerTenant,
+                          @Value("${task.query-cache.max-tenants:1000}") long maxTenants,
+                          @Value("${task.query-cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.coalescer = coalescer;
+        this.enabled = enabled;
+        this.maxEntriesPerTenant = maxEntriesPerTenant;
+        this.expireAfterWrite = expireAfterWrite;
+        // An evicted partition takes its generations with it, so no stale entry can outlive them
+        this.partitions = Caffeine.newBuilder()
+                .maximumSize(maxTenants)
+                .build();
+
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tags("cache", "tasks.query", "result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tags("cache", "tasks.query", "result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", this, TaskQueryCache::size)
+                .tags("cache", "tasks.query")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Return the cached result for a query, or load it coalesced and cache it
+     * @param key the normalized query, including its tenant
+     * @param scope the status the result depends on, or null if it depends on every task
+     * @param loader the query to run on a miss
+     * @return the (possibly cached) result; callers must not modify it
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(RequestCoalescer.Key key, TaskStatus scope, Supplier<T> loader) {
+        // Inside a caller's transaction the loader could see uncommitted writes
+        if (!enabled || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return coalescer.execute(key, loader);
+        }
+
+        Partition partition = partition(key.tenant());
+        AtomicLong generation = partition.generation(scope);
+        long snapshot = generation.get();
+
+        Entry entry = partition.entries.getIfPresent(key);
+        if (entry != null && entry.generation() == snapshot) {
+            hits.increment();
+            return (T) entry.value();
+        }
+
+        misses.increment();
+        Entry loaded = load(key, generation, loader);
+        if (loaded.generation() < snapshot) {
+            // Joined a load that started before a write this caller has seen commit;
+            // any load started now takes a snapshot at least as new as ours
+            loaded = load(key, generation, loader);
+        }
+        if (generation.get() == loaded.generation()) {
+            partition.entries.put(key, loaded);
+        }
+        return (T) loaded.value();
+    }
+
+    /**
+     * Run the loader coalesced, stamped with the generation the leader saw before querying
+     *
+     * Coalesced under its own key: a bypassing caller of the same query must
+     * not join this load and receive an Entry instead of the plain result.
+     */
+    private Entry load(RequestCoalescer.Key key, AtomicLong generation, Supplier<?> loader) {
+        return coalescer.execute(new RequestCoalescer.Key(key.tenant(), STAMPED_LOAD, key), () -> {
+            long stamp = generation.get();
+            return new Entry(stamp, loader.get());
+        });
+    }
+
+    /**
+     * Invalidate the tenant's results affected by a committed task write
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Partition partition = partitions.getIfPresent(event.getTenantId());
+        if (partition != null) {
+            partition.bump(event.getPreviousStatus());
+            partition.bump(event.getStatus());
+            partition.globalGeneration.incrementAndGet();
+        }
+    }
+
+    /**
+     * Invalidate the tenant's results affected by a committed archival batch
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksArchived(TasksArchivedEvent event) {
+        Partition partition = partitions.getIfPresent(event.getTenantId());
+        if (partition != null) {
+            event.getStatuses().forEach(partition::bump);
+            partition.globalGeneration.incrementAndGet();
+        }
+    }
+
+    private Partition partition(String tenant) {
+        return partitions.get(tenant, t -> new Partition(maxEntriesPerTenant, expireAfterWrite));
+    }
+
+    private double size() {
+        return partitions.asMap().values().stream().mapToLong(p -> p.entries.estimatedSize()).sum();
+    }
+}
@@ -1,19 +1,45 @@
 package com.cloudnova.taskmanagementapi.service;
 
+import com.cloudnova.taskmanagementapi.dto.TaskField;
+import com.cloudnova.taskmanagementapi.dto.TaskFilter;
+import com.cloudnova.taskmanagementapi.dto.TaskSort;
+import com.cloudnova.taskmanagementapi.event.TaskChangedEvent;
+import com.cloudnova.taskmanagementapi.model.ArchivedTask;
 import com.cloudnova.taskmanagementapi.model.Task;
 import com.cloudnova.taskmanagementapi.model.TaskStatus;
+import com.cloudnova.taskmanagementapi.model.TaskTags;
+import com.cloudnova.taskmanagementapi.repository.ArchivedTaskRepository;
+import com.cloudnova.taskmanagementapi.repository.TaskProjectionRepository;
 import com.cloudnova.taskmanagementapi.repository.TaskRepository;
+import com.cloudnova.taskmanagementapi.repository.TaskSpecifications;
 import com.cloudnova.taskmanagementapi.exception.TaskNotFoundException;
 import com.cloudnova.taskmanagementapi.exception.DuplicateTaskException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * TaskService - Business Logic Layer for Task operations
@@ -34,17 +60,102 @@ public class TaskService {
 
     private static final Logger logger = LoggerFactory.getLogger(TaskService.class);
 
+    private static final int MAX_NEXT_TASKS = 100;
+
     // Dependency injection of TaskRepository
     // Spring IoC container will automatically inject the repository implementation
     private final TaskRepository taskRepository;
 
+    // Old completed/cancelled tasks, read only when asked for or on an ID miss
+    private final ArchivedTaskRepository archiveRepository;
+
+    // Column-selective reads for sparse fieldsets
+    private final TaskProjectionRepository projectionRepository;
+
+    // Whether sparse fieldsets are read with column-selective queries. The queries
+    // go straight to the JPA tables, so profiles that route or replace
+    // TaskRepository (sharded, columnar) project loaded tasks instead
+    private final boolean fieldPushdown;
+
+    // List/search/statistics results are cached until a write changes them;
+    // identical concurrent misses share one execution
+    private final TaskQueryCache queryCache;
+    private final TransactionTemplate readOnlyTransaction;
+
+    // Task changes are published for derived data (analytics rollups, caches)
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Open tasks ranked by priority and due date
+    private final NextTaskIndex nextTaskIndex;
+
+    // Parent/child links, kept in step with creates, deletes and completions
+    private final TaskHierarchyService hierarchyService;
+
+    // Tag and status bitmaps for multi-tag filters
+    private final TagBitmapIndex tagIndex;
+
+    // Multi-get limits: IDs per request, and IDs per IN query
+    private final int lookupMaxIds;
+    private final int lookupChunkSize;
+
+    // Filtered list limits: rows when no limit is given, and the largest allowed limit
+    private final int filterDefaultLimit;
+    private final int filterMaxLimit;
+
+    // Whether filtered lists run as Criteria queries (TaskRepository.findBy). The
+    // columnar store cannot evaluate Criteria, so there the tasks are filtered here
+    private final boolean filterCriteria;
+
     /**
      * Constructor-based dependency injection (preferred approach)
      * @param taskRepository the task repository to inject
+     * @param archiveRepository the archived task repository
+     * @param projectionRepository the repository for sparse fieldset reads
+     * @param queryCache the coalescing result cache for hot reads
+     * @param nextTaskIndex the priority index of open tasks
+     * @param hierarchyService the task hierarchy
+     * @param tagIndex the tag and status bitmap index
+     * @param transactionManager the transaction manager for coalesced reads
+     * @param eventPublisher the publisher for task change events
+     * @param lookupMaxIds the maximum number of IDs per multi-get
+     * @param lookupChunkSize the maximum number of IDs per IN query
+     * @param filterDefaultLimit the number of rows of a filtered list without a limit
+     * @param filterMaxLimit the largest limit of a filtered list
+     * @param filterCriteria whether filtered lists run as Criteria queries
+     * @param fieldPushdown whether sparse fieldsets are read with column-selective queries
      */
     @Autowired
-    public TaskService(TaskRepository taskRepository) {
+    public TaskService(TaskRepository taskRepository,
+                       ArchivedTaskRepository archiveRepository,
+                       TaskProjectionRepository projectionRepository,
+                       TaskQueryCache queryCache,
+                       NextTaskIndex nextTaskIndex,
+                       TaskHierarchyService hierarchyService,
+                       TagBitmapIndex tagIndex,
+                       PlatformTransactionManager transactionManager,
+                       ApplicationEventPublisher eventPublisher,
+                       @Value("${task.lookup.max-ids:1000}") int lookupMaxIds,
+                       @Value("${task.lookup.chunk-size:500}") int lookupChunkSize,
+                       @Value("${task.filter.default-limit:100}") int filterDefaultLimit,
+                       @Value("${task.filter.max-limit:500}") int filterMaxLimit,
+                       @Value("${task.filter.criteria-queries:true}") boolean filterCriteria,
+                       @Value("${task.fields.pushdown:true}") boolean fieldPushdown) {
         this.taskRepository = taskRepository;
+        this.archiveRepository = archiveRepository;
+        this.projectionRepository = projectionRepository;
+        this.queryCache = queryCache;
+        this.nextTaskIndex = nextTaskIndex;
+        this.hierarchyService = hierarchyService;
+        this.tagIndex = tagIndex;
+        this.eventPublisher = eventPublisher;
+        this.lookupMaxIds = lookupMaxIds;
+        this.lookupChunkSize = lookupChunkSize;
+        this.filterDefaultLimit = filterDefaultLimit;
+        this.filterMaxLimit = filterMaxLimit;
+        this.filterCriteria = filterCriteria;
+        this.fieldPushdown = fieldPushdown;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
         logger.info("TaskService initialized with TaskRepository dependency");
     }
 
@@ -53,13 +164,14 @@ public class TaskService {
      * @param task the task to create
      * @return the created task with generated ID
      * @throws DuplicateTaskException if task with same title already exists
+     * @throws IllegalArgumentException if the parent task does not exist
      */
     public Task createTask(Task task) {
         logger.debug("Creating new task: {}", task.getTitle());
 
         // Business rule: Check for duplicate titles
-        if (taskRepository.existsByTitle(task.getTitle())) {
-            throw new DuplicateTaskException("Task with title '" + task.getTitle() + "' already exists");
+        if (titleExists(task.getTitle())) {
+            throw DuplicateTaskException.forTitle(task.getTitle());
         }
 
         // Set default values
@@ -68,6 +180,8 @@ public class TaskService {
         }
 
         Task savedTask = taskRepository.save(task);
+        hierarchyService.attachNew(savedTask);
+        eventPublisher.publishEvent(TaskChangedEvent.created(savedTask));
         logger.info("Created task with ID: {}", savedTask.getId());
 
         return savedTask;
@@ -77,18 +191,32 @@ public class TaskService {
      * Get all tasks
      * @return list of all tasks
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<Task> getAllTasks() {
         logger.debug("Retrieving all tasks");
-        List<Task> tasks = taskRepository.findAll();
+        List<Task> tasks = cachedRead(RequestCoalescer.Key.of("all"), null,
+                () -> List.copyOf(taskRepository.findAll()));
         logger.debug("Found {} tasks", tasks.size());
         return tasks;
     }
 
     /**
-     * Get task by ID
+     * Get all tasks, optionally including archived ones
+     * @param includeArchived whether to append archived tasks
+     * @return list of tasks
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<Task> getAllTasks(boolean includeArchived) {
+        if (!includeArchived) {
+            return getAllTasks();
+        }
+        return readOnly(() -> withArchived(taskRepository.findAll(), archiveRepository.findAll()));
+    }
+
+    /**
+     * Get task by ID, falling back to the archive
      * @param id the task ID
-     * @return the task
+     * @return the task; an archived task is returned detached
      * @throws TaskNotFoundException if task not found
      */
     @Transactional(readOnly = true)
@@ -96,7 +224,282 @@ public class TaskService {
         logger.debug("Retrieving task with ID: {}", id);
 
         return taskRepository.findById(id)
-                .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + id));
+                .or(() -> archiveRepository.findById(id).map(ArchivedTask::toTask))
+                .orElseThrow(() -> TaskNotFoundException.forId(id));
+    }
+
+    /**
+     * Get many tasks by ID with chunked IN queries
+     *
+     * Duplicate IDs are collapsed; the result keeps the order in which each ID
+     * was first requested. IDs not in the tasks table are looked up in the
+     * archive; IDs with no task are reported rather than failing the call.
+     *
+     * @param ids the task IDs, at most task.lookup.max-ids distinct values
+     * @return the found tasks in request order and the missing IDs
+     * @throws IllegalArgumentException if too many IDs are requested
+     */
+    @Transactional(readOnly = true)
+    public LookupResult getTasksByIds(List<Long> ids) {
+        Set<Long> distinct = new LinkedHashSet<>(ids);
+        distinct.remove(null);
+        if (distinct.size() > lookupMaxIds) {
+            throw new IllegalArgumentException("At most " + lookupMaxIds + " task IDs can be requested at once");
+        }
+        logger.debug("Retrieving {} tasks by ID", distinct.size());
+
+        List<Long> pending = new ArrayList<>(distinct);
+        Map<Long, Task> found = new HashMap<>(pending.size() * 2);
+        for (int from = 0; from < pending.size(); from += lookupChunkSize) {
+            List<Long> chunk = pending.subList(from, Math.min(from + lookupChunkSize, pending.size()));
+            for (Task task : taskRepository.findAllById(chunk)) {
+                found.put(task.getId(), task);
+            }
+        }
+
+        if (found.size() < pending.size()) {
+            List<Long> notHot = pending.stream().filter(id -> !found.containsKey(id)).toList();
+            for (ArchivedTask archived : archiveRepository.findAllById(notHot)) {
+                found.put(archived.getId(), archived.toTask());
+            }
+        }
+
+        List<Task> tasks = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : pending) {
+            Task task = found.get(id);
+            if (task != null) {
+                tasks.add(task);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new LookupResult(tasks, missingIds);
+    }
+
+    /**
+     * Get tasks matching a combined filter, sorted and limited
+     *
+     * The query plan always follows an index order, so the database reads at
+     * most limit rows per query instead of sorting every match:
+     * <ul>
+     *   <li>createdAt / updatedAt are indexed after status, so the query runs
+     *   once per requested status (every status if none was given) with its own
+     *   limit, and the ordered results are merged.</li>
+     *   <li>title and id have their own index order, so one query filters
+     *   statuses while reading in that order.</li>
+     * </ul>
+     * Without Criteria queries (task.filter.criteria-queries=false, the columnar
+     * profile) every task is scanned, filtered and sorted in memory instead.
+     *
+     * @param filter the statuses, time ranges, keyword, sort and limit
+     * @return at most limit tasks in the requested order
+     * @throws IllegalArgumentException if the limit or a time range is invalid
+     */
+    @Transactional(readOnly = true)
+    public List<Task> filterTasks(TaskFilter filter) {
+        logger.debug("Filtering tasks with {}", filter);
+
+        int limit = filter.getLimit() == null ? filterDefaultLimit : filter.getLimit();
+        if (limit < 1 || limit > filterMaxLimit) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + filterMaxLimit);
+        }
+        checkRange("created", filter.getCreatedAfter(), filter.getCreatedBefore());
+        checkRange("updated", filter.getUpdatedAfter(), filter.getUpdatedBefore());
+
+        TaskSort sortField = filter.getSort();
+        Comparator<Task> order = filter.getDirection().isAscending()
+                ? sortField.ascending()
+                : sortField.ascending().reversed();
+        if (!filterCriteria) {
+            return taskRepository.findAll().stream()
+                    .filter(task -> matches(filter, task))
+                    .sorted(order)
+                    .limit(limit)
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+
+        Specification<Task> base = Specification.allOf(
+                TaskSpecifications.createdBetween(filter.getCreatedAfter(), filter.getCreatedBefore()),
+                TaskSpecifications.updatedBetween(filter.getUpdatedAfter(), filter.getUpdatedBefore()),
+                TaskSpecifications.matchesKeyword(filter.getKeyword()));
+
+        Sort sort = Sort.by(filter.getDirection(), sortField.getProperty());
+        if (sortField != TaskSort.ID) {
+            sort = sort.and(Sort.by(filter.getDirection(), "id"));
+        }
+
+        List<Task> tasks = new ArrayList<>();
+        if (sortField.isIndexedAfterStatus()) {
+            Set<TaskStatus> statuses = filter.getStatuses().isEmpty()
+                    ? EnumSet.allOf(TaskStatus.class)
+                    : filter.getStatuses();
+            for (TaskStatus status : statuses) {
+                tasks.addAll(findLimited(base.and(TaskSpecifications.hasStatus(status)), sort, limit));
+            }
+        } else {
+            tasks.addAll(findLimited(base.and(TaskSpecifications.statusIn(filter.getStatuses())), sort, limit));
+        }
+
+        // Merge the per-status (and, when sharded, per-shard) pages into one
+        tasks.sort(order);
+        return tasks.size() > limit ? new ArrayList<>(tasks.subList(0, limit)) : tasks;
+    }
+
+    private List<Task> findLimited(Specification<Task> spec, Sort sort, int limit) {
+        return taskRepository.findBy(spec, query -> query.sortBy(sort).limit(limit).all());
+    }
+
+    /**
+     * The filter's statuses, time ranges and keyword, evaluated like {@link TaskSpecifications}
+     */
+    private static boolean matches(TaskFilter filter, Task task) {
+        if (!filter.getStatuses().isEmpty() && !filter.getStatuses().contains(task.getStatus())) {
+            return false;
+        }
+        if (!within(task.getCreatedAt(), filter.getCreatedAfter(), filter.getCreatedBefore())
+                || !within(task.getUpdatedAt(), filter.getUpdatedAfter(), filter.getUpdatedBefore())) {
+            return false;
+        }
+        String keyword = filter.getKeyword() == null ? "" : filter.getKeyword().trim().toLowerCase(Locale.ROOT);
+        return keyword.isEmpty()
+                || task.getTitle() != null && task.getTitle().toLowerCase(Locale.ROOT).contains(keyword)
+                || task.getDescription() != null && task.getDescription().toLowerCase(Locale.ROOT).contains(keyword);
+    }
+
+    private static boolean within(LocalDateTime time, LocalDateTime from, LocalDateTime to) {
+        return (from == null || time != null && !time.isBefore(from))
+                && (to == null || time != null && time.isBefore(to));
+    }
+
+    private static void checkRange(String name, LocalDateTime after, LocalDateTime before) {
+        if (after != null && before != null && !after.isBefore(before)) {
+            throw new IllegalArgumentException(
+                    "Invalid " + name + " range: " + name + "After must be before " + name + "Before");
+        }
+    }
+
+    /**
+     * Get one page of the tasks that have all the given tags, and the status if given
+     *
+     * Matching is a bitmap intersection in memory; only the page is read from
+     * the database.
+     *
+     * @param tags the required tags, at least one
+     * @param status optional status filter
+     * @param page the zero-based page number
+     * @param size the page size, 1 to task.filter.max-limit
+     * @return the page of tasks, in creation order, and the total number of matches
+     * @throws IllegalArgumentException if a tag, the page or the size is invalid
+     */
+    @Transactional(readOnly = true)
+    public TaggedPage getTasksByTags(List<String> tags, TaskStatus status, int page, int size) {
+        logger.debug("Retrieving tasks with tags {} and status {}, page {} of size {}", tags, status, page, size);
+
+        if (tags == null || tags.isEmpty()) {
+            throw new IllegalArgumentException("At least one tag is required");
+        }
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must not be negative");
+        }
+        if (size < 1 || size > filterMaxLimit) {
+            throw new IllegalArgumentException("Size must be between 1 and " + filterMaxLimit);
+        }
+        long offset = (long) page * size;
+        if (offset > Integer.MAX_VALUE) {
+            return new TaggedPage(List.of(), 0);
+        }
+
+        TagBitmapIndex.Page matches = tagIndex.find(TaskTags.normalize(tags), status, (int) offset, size);
+
+        Map<Long, Task> byId = new HashMap<>(matches.ids().size() * 2);
+        taskRepository.findAllById(matches.ids()).forEach(task -> byId.put(task.getId(), task));
+        List<Task> tasks = new ArrayList<>(matches.ids().size());
+        for (Long id : matches.ids()) {
+            Task task = byId.get(id);
+            if (task != null) {
+                tasks.add(task);
+            }
+        }
+        return new TaggedPage(tasks, matches.totalCount());
+    }
+
+    /**
+     * Get the open tasks to work on next: highest priority first, then earliest due
+     * @param limit the number of tasks, 1 to 100
+     * @return at most limit open tasks, most urgent first
+     * @throws IllegalArgumentException if limit is out of range
+     */
+    @Transactional(readOnly = true)
+    public List<Task> getNextTasks(int limit) {
+        if (limit < 1 || limit > MAX_NEXT_TASKS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_NEXT_TASKS);
+        }
+        logger.debug("Retrieving next {} tasks", limit);
+
+        List<Long> ids = nextTaskIndex.top(limit);
+        Map<Long, Task> byId = new HashMap<>(ids.size() * 2);
+        taskRepository.findAllById(ids).forEach(task -> byId.put(task.getId(), task));
+
+        // Keep the index order; skip tasks changed or deleted since the index read
+        List<Task> tasks = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Task task = byId.get(id);
+            if (task != null && !task.getStatus().isTerminal()) {
+                tasks.add(task);
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Get tasks with only the requested fields, read with a column-selective query
+     *
+     * Without task.fields.pushdown the tasks are read as by the full list and
+     * projected, so the result is the same under every profile.
+     *
+     * @param fields the fields to return
+     * @param status optional status filter
+     * @param keyword optional search keyword, combined with the status filter
+     * @return one field map per task
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getTaskFields(Set<TaskField> fields, TaskStatus status, String keyword) {
+        logger.debug("Retrieving fields {} with status: {}, keyword: {}", fields, status, keyword);
+
+        String normalized = keyword == null || keyword.trim().isEmpty() ? null : keyword.trim();
+        if (fieldPushdown) {
+            return projectionRepository.findAll(fields, status, normalized);
+        }
+
+        List<Task> tasks;
+        if (normalized != null) {
+            tasks = searchTasks(normalized, status);
+        } else if (status != null) {
+            tasks = getTasksByStatus(status);
+        } else {
+            tasks = getAllTasks();
+        }
+        return tasks.stream().map(task -> TaskField.project(task, fields)).toList();
+    }
+
+    /**
+     * Get one task with only the requested fields, falling back to the archive
+     * @param id the task ID
+     * @param fields the fields to return
+     * @return the task's field map
+     * @throws TaskNotFoundException if task not found
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getTaskFieldsById(Long id, Set<TaskField> fields) {
+        logger.debug("Retrieving fields {} of task with ID: {}", fields, id);
+
+        if (!fieldPushdown) {
+            return TaskField.project(getTaskById(id), fields);
+        }
+        return projectionRepository.findById(id, fields)
+                .or(() -> archiveRepository.findById(id).map(archived -> TaskField.project(archived.toTask(), fields)))
+                .orElseThrow(() -> TaskNotFoundException.forId(id));
     }
 
     /**
@@ -105,18 +508,20 @@ public class TaskService {
      * @param updatedTask the updated task data
      * @return the updated task
      * @throws TaskNotFoundException if task not found
+     * @throws IllegalArgumentException if the task is archived
      */
     public Task updateTask(Long id, Task updatedTask) {
         logger.debug("Updating task with ID: {}", id);
 
-        Task existingTask = getTaskById(id);
+        Task existingTask = findActiveTask(id);
+        TaskStatus previousStatus = existingTask.getStatus();
 
         // Update fields
         if (updatedTask.getTitle() != null && !updatedTask.getTitle().trim().isEmpty()) {
             // Check for duplicate title (excluding current task)
             if (!existingTask.getTitle().equals(updatedTask.getTitle()) &&
-                    taskRepository.existsByTitle(updatedTask.getTitle())) {
-                throw new DuplicateTaskException("Task with title '" + updatedTask.getTitle() + "' already exists");
+                    titleExists(updatedTask.getTitle())) {
+                throw DuplicateTaskException.forTitle(updatedTask.getTitle());
             }
             existingTask.setTitle(updatedTask.getTitle());
         }
@@ -129,7 +534,23 @@ public class TaskService {
             existingTask.setStatus(updatedTask.getStatus());
         }
 
+        if (updatedTask.getPriority() != null) {
+            existingTask.setPriority(updatedTask.getPriority());
+        }
+
+        if (updatedTask.getDueAt() != null) {
+            existingTask.setDueAt(updatedTask.getDueAt());
+        }
+
+        if (updatedTask.getTags() != null) {
+            existingTask.setTags(updatedTask.getTags());
+        }
+
         Task savedTask = taskRepository.save(existingTask);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(savedTask, previousStatus));
+        if (savedTask.getStatus() != previousStatus && savedTask.getStatus().isTerminal()) {
+            hierarchyService.propagateCompletion(savedTask);
+        }
         logger.info("Updated task with ID: {}", savedTask.getId());
 
         return savedTask;
@@ -139,15 +560,16 @@ public class TaskService {
      * Delete a task
      * @param id the task ID to delete
      * @throws TaskNotFoundException if task not found
+     * @throws IllegalArgumentException if the task is archived or has subtasks
      */
     public void deleteTask(Long id) {
         logger.debug("Deleting task with ID: {}", id);
 
-        if (!taskRepository.existsById(id)) {
-            throw new TaskNotFoundException("Task not found with ID: " + id);
-        }
+        Task task = findActiveTask(id);
+        hierarchyService.detachForDelete(task);
 
-        taskRepository.deleteById(id);
+        taskRepository.delete(task);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(task));
         logger.info("Deleted task with ID: {}", id);
     }
 
@@ -156,10 +578,28 @@ public class TaskService {
      * @param status the task status
      * @return list of tasks with the specified status
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<Task> getTasksByStatus(TaskStatus status) {
         logger.debug("Retrieving tasks with status: {}", status);
-        return taskRepository.findByStatusOrderByCreatedAtDesc(status);
+        return cachedRead(RequestCoalescer.Key.of("status", status), status,
+                () -> List.copyOf(taskRepository.findByStatusOrderByCreatedAtDesc(status)));
+    }
+
+    /**
+     * Get tasks by status, optionally including archived ones
+     * @param status the task status
+     * @param includeArchived whether to include archived tasks (only COMPLETED and CANCELLED are archived)
+     * @return list of tasks with the specified status, newest first
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<Task> getTasksByStatus(TaskStatus status, boolean includeArchived) {
+        if (!includeArchived || !status.isTerminal()) {
+            return getTasksByStatus(status);
+        }
+        List<Task> tasks = readOnly(() -> withArchived(taskRepository.findByStatusOrderByCreatedAtDesc(status),
+                archiveRepository.findByStatusOrderByCreatedAtDesc(status)));
+        tasks.sort(Comparator.comparing(Task::getCreatedAt, Comparator.reverseOrder()));
+        return tasks;
     }
 
     /**
@@ -167,7 +607,7 @@ public class TaskService {
      * @param keyword the search keyword
      * @return list of matching tasks
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<Task> searchTasks(String keyword) {
         logger.debug("Searching tasks with keyword: {}", keyword);
 
@@ -175,24 +615,101 @@ public class TaskService {
             return getAllTasks();
         }
 
-        return taskRepository.searchByKeyword(keyword.trim());
+        // The search is case-insensitive, so differently-cased keywords coalesce
+        String normalized = keyword.trim().toLowerCase(Locale.ROOT);
+        return cachedRead(RequestCoalescer.Key.of("search", normalized), null,
+                () -> List.copyOf(taskRepository.searchByKeyword(normalized)));
+    }
+
+    /**
+     * Search tasks by keyword, optionally restricted to one status
+     * @param keyword the search keyword
+     * @param status optional status filter, null for all statuses
+     * @return list of matching tasks
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<Task> searchTasks(String keyword, TaskStatus status) {
+        List<Task> matches = searchTasks(keyword);
+        if (status == null) {
+            return matches;
+        }
+        return matches.stream().filter(task -> task.getStatus() == status).toList();
+    }
+
+    /**
+     * Search tasks by keyword and optional status, optionally including archived ones
+     * @param keyword the search keyword
+     * @param status optional status filter, null for all statuses
+     * @param includeArchived whether to include archived tasks
+     * @return list of matching tasks
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<Task> searchTasks(String keyword, TaskStatus status, boolean includeArchived) {
+        if (!includeArchived || (status != null && !status.isTerminal())) {
+            return searchTasks(keyword, status);
+        }
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return status == null ? getAllTasks(true) : getTasksByStatus(status, true);
+        }
+
+        String normalized = keyword.trim().toLowerCase(Locale.ROOT);
+        List<Task> matches = readOnly(() -> withArchived(taskRepository.searchByKeyword(normalized),
+                archiveRepository.searchByKeyword(normalized)));
+        if (status == null) {
+            return matches;
+        }
+        return matches.stream().filter(task -> task.getStatus() == status).toList();
+    }
+
+    /**
+     * Search tasks and compute facet counts in the same pass over the matches
+     *
+     * Status facets count all keyword matches, ignoring the status filter, so the
+     * client can show how many results every status chip would give. Creation-date
+     * facets count the matches after the status filter.
+     *
+     * @param keyword the search keyword
+     * @param status optional status filter, null for all statuses
+     * @return the filtered matches with their facet counts
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public FacetedSearchResult searchTasksWithFacets(String keyword, TaskStatus status) {
+        logger.debug("Faceted search with keyword: {}, status: {}", keyword, status);
+
+        List<Task> matches = searchTasks(keyword);
+
+        Map<TaskStatus, Long> statusCounts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus s : TaskStatus.values()) {
+            statusCounts.put(s, 0L);
+        }
+        Map<CreatedRange, Long> createdCounts = new EnumMap<>(CreatedRange.class);
+        for (CreatedRange range : CreatedRange.values()) {
+            createdCounts.put(range, 0L);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Task> filtered = new ArrayList<>();
+        for (Task task : matches) {
+            statusCounts.merge(task.getStatus(), 1L, Long::sum);
+            if (status != null && task.getStatus() != status) {
+                continue;
+            }
+            filtered.add(task);
+            createdCounts.merge(CreatedRange.of(task.getCreatedAt(), now), 1L, Long::sum);
+        }
+
+        return new FacetedSearchResult(filtered, statusCounts, createdCounts);
     }
 
     /**
      * Get task statistics
      * @return task count by status
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public TaskStatistics getTaskStatistics() {
         logger.debug("Calculating task statistics");
 
-        long todoCount = taskRepository.countByStatus(TaskStatus.TODO);
-        long inProgressCount = taskRepository.countByStatus(TaskStatus.IN_PROGRESS);
-        long completedCount = taskRepository.countByStatus(TaskStatus.COMPLETED);
-        long cancelledCount = taskRepository.countByStatus(TaskStatus.CANCELLED);
-        long totalCount = taskRepository.count();
-
-        return new TaskStatistics(todoCount, inProgressCount, completedCount, cancelledCount, totalCount);
+        return cachedRead(RequestCoalescer.Key.of("statistics"), null, this::countByStatus);
     }
 
     /**
@@ -200,19 +717,151 @@ public class TaskService {
      * @param id the task ID
      * @return the updated task
      * @throws TaskNotFoundException if task not found
+     * @throws IllegalArgumentException if the task is archived
      */
     public Task completeTask(Long id) {
         logger.debug("Marking task as completed: {}", id);
 
-        Task task = getTaskById(id);
+        Task task = findActiveTask(id);
+        TaskStatus previousStatus = task.getStatus();
         task.setStatus(TaskStatus.COMPLETED);
 
         Task savedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(savedTask, previousStatus));
+        if (previousStatus != TaskStatus.COMPLETED) {
+            hierarchyService.propagateCompletion(savedTask);
+        }
         logger.info("Marked task {} as completed", id);
 
         return savedTask;
     }
 
+    private TaskStatistics countByStatus() {
+        long todoCount = taskRepository.countByStatus(TaskStatus.TODO);
+        long inProgressCount = taskRepository.countByStatus(TaskStatus.IN_PROGRESS);
+        long completedCount = taskRepository.countByStatus(TaskStatus.COMPLETED);
+        long cancelledCount = taskRepository.countByStatus(TaskStatus.CANCELLED);
+        long totalCount = taskRepository.count();
+        long archivedCount = archiveRepository.countArchived();
+
+        return new TaskStatistics(todoCount, inProgressCount, completedCount, cancelledCount, totalCount,
+                archivedCount);
+    }
+
+    /**
+     * Find a task that may be modified; archived tasks are read-only
+     */
+    private Task findActiveTask(Long id) {
+        return taskRepository.findById(id).orElseThrow(() -> {
+            if (archiveRepository.existsById(id)) {
+                return new IllegalArgumentException("Task with ID " + id + " is archived and cannot be modified");
+            }
+            return TaskNotFoundException.forId(id);
+        });
+    }
+
+    /**
+     * Titles stay unique across the hot and archived tasks
+     */
+    private boolean titleExists(String title) {
+        return taskRepository.existsByTitle(title) || archiveRepository.existsByTitle(title);
+    }
+
+    private static List<Task> withArchived(List<Task> tasks, List<ArchivedTask> archived) {
+        List<Task> all = new ArrayList<>(tasks.size() + archived.size());
+        all.addAll(tasks);
+        archived.forEach(a -> all.add(a.toTask()));
+        return all;
+    }
+
+    /**
+     * Serve a hot read from the query cache; on a miss the cache runs it
+     * coalesced, here in its own read-only transaction
+     * @param key the normalized query
+     * @param scope the status the result depends on, or null for all tasks
+     */
+    private <T> T cachedRead(RequestCoalescer.Key key, TaskStatus scope, Supplier<T> query) {
+        return queryCache.get(key, scope, () -> readOnly(query));
+    }
+
+    /**
+     * Run a coalesced read in its own read-only transaction. The public read
+     * methods only join an existing transaction (SUPPORTS), so callers waiting
+     * on a coalesced read do not hold a pooled connection while they wait.
+     */
+    private <T> T readOnly(Supplier<T> query) {
+        return readOnlyTransaction.execute(status -> query.get());
+    }
+
+    /**
+     * Creation-date facet ranges, relative to the time of the search
+     */
+    public enum CreatedRange {
+        LAST_24_HOURS,
+        LAST_7_DAYS,
+        LAST_30_DAYS,
+        OLDER;
+
+        static CreatedRange of(LocalDateTime createdAt, LocalDateTime now) {
+            if (createdAt.isAfter(now.minusHours(24))) return LAST_24_HOURS;
+            if (createdAt.isAfter(now.minusDays(7))) return LAST_7_DAYS;
+            if (createdAt.isAfter(now.minusDays(30))) return LAST_30_DAYS;
+            return OLDER;
+        }
+    }
+
+    /**
+     * Inner class for multi-get results
+     */
+    public static class LookupResult {
+        private final List<Task> tasks;
+        private final List<Long> missingIds;
+
+        public LookupResult(List<Task> tasks, List<Long> missingIds) {
+            this.tasks = tasks;
+            this.missingIds = missingIds;
+        }
+
+        public List<Task> getTasks() { return tasks; }
+        public List<Long> getMissingIds() { return missingIds; }
+    }
+
+    /**
+     * Inner class for one page of a tag filter, with the total number of matches
+     */
+    public static class TaggedPage {
+        private final List<Task> tasks;
+        private final int totalCount;
+
+        public TaggedPage(List<Task> tasks, int totalCount) {
+            this.tasks = tasks;
+            this.totalCount = totalCount;
+        }
+
+        public List<Task> getTasks() { return tasks; }
+        public int getTotalCount() { return totalCount; }
+    }
+
+    /**
+     * Inner class for faceted search results
+     */
+    public static class FacetedSearchResult {
+        private final List<Task> tasks;
+        private final Map<TaskStatus, Long> statusCounts;
+        private final Map<CreatedRange, Long> createdCounts;
+
+        public FacetedSearchResult(List<Task> tasks, Map<TaskStatus, Long> statusCounts,
+                                   Map<CreatedRange, Long> createdCounts) {
+            this.tasks = tasks;
+            this.statusCounts = statusCounts;
+            this.createdCounts = createdCounts;
+        }
+
+        public List<Task> getTasks() { return tasks; }
+        public Map<TaskStatus, Long> getStatusCounts() { return statusCounts; }
+        public Map<CreatedRange, Long> getCreatedCounts() { return createdCounts; }
+    }
+
     /**
      * Inner class for task statistics
      */
@@ -222,14 +871,16 @@ public class TaskService {
         private final long completedCount;
         private final long cancelledCount;
         private final long totalCount;
+        private final long archivedCount;
 
         public TaskStatistics(long todoCount, long inProgressCount, long completedCount,
-                              long cancelledCount, long totalCount) {
+                              long cancelledCount, long totalCount, long archivedCount) {
             this.todoCount = todoCount;
             this.inProgressCount = inProgressCount;
             this.completedCount = completedCount;
             this.cancelledCount = cancelledCount;
             this.totalCount = totalCount;
+            this.archivedCount = archivedCount;
         }
 
         public long getTodoCount() { return todoCount; }
@@ -237,5 +888,6 @@ public class TaskService {
         public long getCompletedCount() { return completedCount; }
         public long getCancelledCount() { return cancelledCount; }
         public long getTotalCount() { return totalCount; }
+        public long getArchivedCount() { return archivedCount; }
     }
 }
\ No newline at end of file
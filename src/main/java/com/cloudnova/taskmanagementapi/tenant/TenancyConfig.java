@@ -0,0 +1,24 @@
+package com.cloudnova.taskmanagementapi.tenant;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * TenancyConfig - Registers the tenant resolver with Hibernate
+ *
+ * Entities with a {@code @TenantId} attribute (tasks, archived tasks, analytics
+ * rollups) are then discriminated by tenant: inserts get the current tenant and
+ * every HQL/JPQL query and load is restricted to it. Native queries are not
+ * filtered and must handle tenant_id themselves.
+ */
+@Configuration
+public class TenancyConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer tenantIdentifierResolverCustomizer() {
+        return properties -> properties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER,
+                new TenantIdentifierResolver());
+    }
+}
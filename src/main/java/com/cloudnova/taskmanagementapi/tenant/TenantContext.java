@@ -0,0 +1,82 @@
+package com.cloudnova.taskmanagementapi.tenant;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * TenantContext - Thread-bound tenant of the current request or background job
+ *
+ * Read by Hibernate through {@link TenantIdentifierResolver} whenever a session
+ * is opened, so every query on a tenant-scoped entity is restricted to this
+ * tenant. Threads without a bound tenant use {@link #DEFAULT_TENANT}.
+ */
+public final class TenantContext {
+
+    public static final String DEFAULT_TENANT = "default";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {}
+
+    public static String current() {
+        String tenant = CURRENT.get();
+        return tenant != null ? tenant : DEFAULT_TENANT;
+    }
+
+    static void set(String tenant) {
+        CURRENT.set(tenant);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Run an action with the given tenant bound to the current thread
+     * @param tenant the tenant ID
+     * @param action the work to run
+     * @return the result of the action
+     */
+    public static <T> T callAs(String tenant, Supplier<T> action) {
+        String previous = CURRENT.get();
+        CURRENT.set(tenant);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static void runAs(String tenant, Runnable action) {
+        callAs(tenant, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Wrap a task so it runs with the given tenant bound, e.g. on another thread
+     * @param tenant the tenant ID
+     * @param task the task to wrap
+     * @return a task that binds the tenant around the original
+     */
+    public static <T> Callable<T> bind(String tenant, Callable<T> task) {
+        return () -> {
+            String previous = CURRENT.get();
+            CURRENT.set(tenant);
+            try {
+                return task.call();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,120 @@
+package com.cloudnova.taskmanagementapi.tracing;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RequestTrace - Phase timings of the request running on the current thread
+ *
+ * Phases nest (controller calls service calls repository); each phase is
+ * charged its exclusive time, i.e. minus the time spent in nested phases, so
+ * the phase durations add up to at most the request total. Time not covered
+ * by any phase (filters, dispatch, logging) is the remainder.
+ *
+ * Only the request thread is traced. Work handed to other threads, such as
+ * sharded scatter-gather legs, is charged to the phase waiting for it.
+ */
+public final class RequestTrace {
+
+    public enum Phase {
+        CONTROLLER("ctrl"),
+        SERVICE("svc"),
+        REPOSITORY("repo"),
+        SERIALIZATION("ser");
+
+        private final String metricName;
+
+        Phase(String metricName) {
+            this.metricName = metricName;
+        }
+
+        public String getMetricName() {
+            return metricName;
+        }
+    }
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final long[] exclusiveNanos = new long[Phase.values().length];
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    private int sqlStatements;
+
+    private static final class Frame {
+        final Phase phase;
+        final long start;
+        long nested;
+
+        Frame(Phase phase, long start) {
+            this.phase = phase;
+            this.start = start;
+        }
+    }
+
+    /**
+     * Start tracing a request on the current thread
+     */
+    static RequestTrace begin() {
+        RequestTrace trace = new RequestTrace();
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * The trace of the current thread's request, or null if it is not traced
+     */
+    public static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    public void enter(Phase phase) {
+        frames.push(new Frame(phase, System.nanoTime()));
+    }
+
+    public void exit() {
+        Frame frame = frames.pop();
+        long elapsed = System.nanoTime() - frame.start;
+        exclusiveNanos[frame.phase.ordinal()] += elapsed - frame.nested;
+        Frame parent = frames.peek();
+        if (parent != null) {
+            parent.nested += elapsed;
+        }
+    }
+
+    public void sqlStatement() {
+        sqlStatements++;
+    }
+
+    public int getSqlStatements() {
+        return sqlStatements;
+    }
+
+    public long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Exclusive time per phase in milliseconds, omitting phases that never ran
+     */
+    public Map<Phase, Double> getPhaseMillis() {
+        Map<Phase, Double> millis = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            long nanos = exclusiveNanos[phase.ordinal()];
+            if (nanos > 0) {
+                millis.put(phase, toMillis(nanos));
+            }
+        }
+        return millis;
+    }
+
+    static double toMillis(long nanos) {
+        return Math.round(nanos / (double) TimeUnit.MILLISECONDS.toNanos(1) * 100) / 100.0;
+    }
+}
@@ -0,0 +1,96 @@
+package com.cloudnova.taskmanagementapi.tracing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * RequestTracingFilter - Starts the phase trace of each request and reports it
+ *
+ * Runs before the concurrency limiter, so shed requests are traced too. When
+ * task.tracing.server-timing-header is on, the response body is buffered so
+ * the Server-Timing header, which needs the serialization time, can still be
+ * set after the body has been written, e.g.
+ * {@code Server-Timing: ctrl;dur=0.4, svc;dur=1.1, repo;dur=6.3, ser;dur=0.9, sql;desc="3 statements", total;dur=9.8}.
+ * Requests slower than task.tracing.slow-threshold are sampled into the
+ * {@link SlowRequestLog} either way.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@ConditionalOnProperty(prefix = "task.tracing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RequestTracingFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private final SlowRequestLog slowRequestLog;
+    private final boolean serverTimingHeader;
+    private final long slowThresholdNanos;
+
+    @Autowired
+    public RequestTracingFilter(TracingProperties properties, SlowRequestLog slowRequestLog) {
+        this.slowRequestLog = slowRequestLog;
+        this.serverTimingHeader = properties.isServerTimingHeader();
+        this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        RequestTrace trace = RequestTrace.begin();
+        ContentCachingResponseWrapper buffered = serverTimingHeader
+                ? new ContentCachingResponseWrapper(response)
+                : null;
+        try {
+            chain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            RequestTrace.end();
+            long elapsed = trace.getElapsedNanos();
+            if (buffered != null) {
+                buffered.setHeader(SERVER_TIMING, serverTiming(trace, elapsed));
+                buffered.copyBodyToResponse();
+            }
+            if (elapsed >= slowThresholdNanos) {
+                slowRequestLog.record(sample(request, response, trace, elapsed));
+            }
+        }
+    }
+
+    static String serverTiming(RequestTrace trace, long elapsedNanos) {
+        StringBuilder header = new StringBuilder();
+        trace.getPhaseMillis().forEach((phase, millis) ->
+                header.append(phase.getMetricName()).append(";dur=").append(format(millis)).append(", "));
+        header.append("sql;desc=\"").append(trace.getSqlStatements()).append(" statements\", ");
+        header.append("total;dur=").append(format(RequestTrace.toMillis(elapsedNanos)));
+        return header.toString();
+    }
+
+    private static SlowRequestLog.SlowRequest sample(HttpServletRequest request, HttpServletResponse response,
+                                                     RequestTrace trace, long elapsedNanos) {
+        Map<String, Double> phases = new LinkedHashMap<>();
+        trace.getPhaseMillis().forEach((phase, millis) -> phases.put(phase.getMetricName(), millis));
+
+        String uri = request.getQueryString() == null
+                ? request.getRequestURI()
+                : request.getRequestURI() + "?" + request.getQueryString();
+        return new SlowRequestLog.SlowRequest(Instant.now(), request.getMethod(), uri, response.getStatus(),
+                RequestTrace.toMillis(elapsedNanos), phases, trace.getSqlStatements());
+    }
+
+    private static String format(double millis) {
+        return String.format(Locale.ROOT, "%.2f", millis);
+    }
+}
@@ -0,0 +1,49 @@
+package com.cloudnova.taskmanagementapi.tracing;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SlowRequestLog - Fixed-size ring buffer of the most recent slow requests
+ *
+ * Recording overwrites the oldest sample, so memory stays bounded however
+ * many requests are slow.
+ */
+public class SlowRequestLog {
+
+    /**
+     * A sampled slow request with its phase breakdown
+     */
+    public record SlowRequest(Instant timestamp, String method, String uri, int status,
+                              double totalMillis, Map<String, Double> phaseMillis, int sqlStatements) {}
+
+    private final SlowRequest[] buffer;
+    private long recorded;
+
+    public SlowRequestLog(int capacity) {
+        this.buffer = new SlowRequest[Math.max(1, capacity)];
+    }
+
+    public synchronized void record(SlowRequest request) {
+        buffer[(int) (recorded % buffer.length)] = request;
+        recorded++;
+    }
+
+    /**
+     * The retained samples, newest first
+     */
+    public synchronized List<SlowRequest> snapshot() {
+        int size = (int) Math.min(recorded, buffer.length);
+        List<SlowRequest> result = new ArrayList<>(size);
+        for (long i = recorded - 1; i >= recorded - size; i--) {
+            result.add(buffer[(int) (i % buffer.length)]);
+        }
+        return result;
+    }
+
+    public synchronized long getRecordedCount() {
+        return recorded;
+    }
+}
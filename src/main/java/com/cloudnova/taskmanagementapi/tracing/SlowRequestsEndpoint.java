@@ -0,0 +1,33 @@
+package com.cloudnova.taskmanagementapi.tracing;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SlowRequestsEndpoint - Actuator view of the slow request samples
+ *
+ * GET /api/v1/actuator/slowrequests
+ */
+@Endpoint(id = "slowrequests")
+public class SlowRequestsEndpoint {
+
+    private final SlowRequestLog log;
+    private final TracingProperties properties;
+
+    public SlowRequestsEndpoint(SlowRequestLog log, TracingProperties properties) {
+        this.log = log;
+        this.properties = properties;
+    }
+
+    @ReadOperation
+    public Map<String, Object> slowRequests() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("thresholdMillis", properties.getSlowThreshold().toMillis());
+        result.put("recorded", log.getRecordedCount());
+        result.put("requests", log.snapshot());
+        return result;
+    }
+}
@@ -0,0 +1,18 @@
+package com.cloudnova.taskmanagementapi.tracing;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * SqlStatementCounter - Counts the SQL statements Hibernate prepares for the traced request
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestTrace trace = RequestTrace.current();
+        if (trace != null) {
+            trace.sqlStatement();
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,52 @@
+package com.cloudnova.taskmanagementapi.tracing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * TracingAspect - Charges controller, service and repository calls to their phase
+ *
+ * Runs outermost (before transaction and shard routing advice), so service
+ * time includes transaction begin/commit and repository time includes
+ * scatter-gather across shards.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "task.tracing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TracingAspect {
+
+    @Around("@within(org.springframework.web.bind.annotation.RestController)")
+    public Object traceController(ProceedingJoinPoint pjp) throws Throwable {
+        return trace(pjp, RequestTrace.Phase.CONTROLLER);
+    }
+
+    @Around("@within(org.springframework.stereotype.Service)")
+    public Object traceService(ProceedingJoinPoint pjp) throws Throwable {
+        return trace(pjp, RequestTrace.Phase.SERVICE);
+    }
+
+    @Around("target(org.springframework.data.repository.Repository) "
+            + "|| @within(org.springframework.stereotype.Repository)")
+    public Object traceRepository(ProceedingJoinPoint pjp) throws Throwable {
+        return trace(pjp, RequestTrace.Phase.REPOSITORY);
+    }
+
+    private static Object trace(ProceedingJoinPoint pjp, RequestTrace.Phase phase) throws Throwable {
+        RequestTrace trace = RequestTrace.current();
+        if (trace == null) {
+            return pjp.proceed();
+        }
+        trace.enter(phase);
+        try {
+            return pjp.proceed();
+        } finally {
+            trace.exit();
+        }
+    }
+}
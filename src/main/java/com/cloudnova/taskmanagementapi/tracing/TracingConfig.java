@@ -0,0 +1,81 @@
+package com.cloudnova.taskmanagementapi.tracing;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * TracingConfig - Wiring for per-request phase tracing
+ *
+ * Registers the SQL statement counter with Hibernate, times JSON response
+ * serialization, and exposes slow request samples as the
+ * {@code slowrequests} actuator endpoint.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "task.tracing", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(TracingProperties.class)
+public class TracingConfig implements WebMvcConfigurer {
+
+    @Bean
+    public SlowRequestLog slowRequestLog(TracingProperties properties) {
+        return new SlowRequestLog(properties.getSlowRequestCapacity());
+    }
+
+    @Bean
+    public SlowRequestsEndpoint slowRequestsEndpoint(SlowRequestLog slowRequestLog, TracingProperties properties) {
+        return new SlowRequestsEndpoint(slowRequestLog, properties);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+
+    /**
+     * Swap the JSON converter for one that charges its writes to the serialization phase
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter jackson) {
+                converters.set(i, new TimedJacksonConverter(jackson));
+            }
+        }
+    }
+
+    static class TimedJacksonConverter extends MappingJackson2HttpMessageConverter {
+
+        TimedJacksonConverter(MappingJackson2HttpMessageConverter original) {
+            super(original.getObjectMapper());
+            setSupportedMediaTypes(original.getSupportedMediaTypes());
+        }
+
+        @Override
+        protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+                throws IOException, HttpMessageNotWritableException {
+            RequestTrace trace = RequestTrace.current();
+            if (trace == null) {
+                super.writeInternal(object, type, outputMessage);
+                return;
+            }
+            trace.enter(RequestTrace.Phase.SERIALIZATION);
+            try {
+                super.writeInternal(object, type, outputMessage);
+            } finally {
+                trace.exit();
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.cloudnova.taskmanagementapi.tracing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * TracingProperties - Configuration of per-request phase tracing
+ *
+ * Bound from {@code task.tracing.*}.
+ */
+@ConfigurationProperties(prefix = "task.tracing")
+public class TracingProperties {
+
+    private boolean enabled = true;
+    private boolean serverTimingHeader = false;
+    private Duration slowThreshold = Duration.ofMillis(500);
+    private int slowRequestCapacity = 100;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public boolean isServerTimingHeader() { return serverTimingHeader; }
+    public void setServerTimingHeader(boolean serverTimingHeader) { this.serverTimingHeader = serverTimingHeader; }
+
+    public Duration getSlowThreshold() { return slowThreshold; }
+    public void setSlowThreshold(Duration slowThreshold) { this.slowThreshold = slowThreshold; }
+
+    public int getSlowRequestCapacity() { return slowRequestCapacity; }
+    public void setSlowRequestCapacity(int slowRequestCapacity) { this.slowRequestCapacity = slowRequestCapacity; }
+}
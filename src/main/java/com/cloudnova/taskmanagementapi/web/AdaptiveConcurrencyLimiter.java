@@ -0,0 +1,95 @@
+package com.cloudnova.taskmanagementapi.web;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * AdaptiveConcurrencyLimiter - AIMD limit on concurrent requests
+ *
+ * The limit grows by one when a request completes under the latency threshold
+ * while the limiter is at least half utilized, and shrinks multiplicatively by
+ * the backoff ratio when a request is slower than the threshold or fails.
+ * When the database slows down the limit therefore converges to what it can
+ * sustain, and excess requests are rejected instead of queueing in Tomcat.
+ *
+ * The limit shrinks at most once per round trip: a slow or failed request that
+ * was admitted before the last backoff reflects the old limit and is ignored,
+ * like a TCP sender halving its window once per loss event. Without this, the
+ * requests in flight during one database stall would each cut the limit and
+ * drive it to the minimum, from which it only recovers one step at a time.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+    private final LongSupplier clock;
+    private final AtomicLong lastBackoffNanos;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      long latencyThresholdNanos, double backoffRatio) {
+        this(initialLimit, minLimit, maxLimit, latencyThresholdNanos, backoffRatio, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                               long latencyThresholdNanos, double backoffRatio, LongSupplier clock) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min <= max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+        this.limit = new AtomicInteger(Math.max(minLimit, Math.min(maxLimit, initialLimit)));
+        this.clock = clock;
+        this.lastBackoffNanos = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * Try to admit a request
+     * @return true if admitted; the caller must then call {@link #release}
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                rejected.incrementAndGet();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Complete an admitted request and adapt the limit
+     * @param latencyNanos the observed request latency
+     * @param failed whether the request failed with a server error
+     */
+    public void release(long latencyNanos, boolean failed) {
+        int inFlightBefore = inFlight.getAndDecrement();
+
+        if (failed || latencyNanos > latencyThresholdNanos) {
+            long now = clock.getAsLong();
+            long last = lastBackoffNanos.get();
+            // Admitted before the last backoff, or another release is backing off for this window
+            if (now - latencyNanos - last >= 0 && lastBackoffNanos.compareAndSet(last, now)) {
+                limit.updateAndGet(l -> Math.max(minLimit, (int) (l * backoffRatio)));
+            }
+        } else {
+            // Only probe upwards when the current limit is actually being used
+            limit.updateAndGet(l -> inFlightBefore * 2 >= l ? Math.min(maxLimit, l + 1) : l);
+        }
+    }
+
+    public int getLimit() { return limit.get(); }
+    public int getInFlight() { return inFlight.get(); }
+    public long getRejectedCount() { return rejected.get(); }
+}
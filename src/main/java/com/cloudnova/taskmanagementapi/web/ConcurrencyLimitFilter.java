@@ -0,0 +1,132 @@
+package com.cloudnova.taskmanagementapi.web;
+
+import com.cloudnova.taskmanagementapi.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * ConcurrencyLimitFilter - Load shedding in front of TaskController
+ *
+ * Only /tasks requests pass through the limiters, so /health and the actuator
+ * endpoints are never shed. Reads (GET, HEAD, OPTIONS and the POST
+ * /tasks/lookup multi-get) count against the read limit; everything else
+ * counts against the write limit. Rejected requests get an immediate 503
+ * with a Retry-After header.
+ *
+ * POST /tasks/import is not limited: an import runs for as long as its body,
+ * far beyond any write latency threshold, and would back the write limit off
+ * for every POST /tasks. Its database work is bounded by the background
+ * bulkhead instead.
+ *
+ * Metrics: tasks.concurrency.limit, tasks.concurrency.in.flight and
+ * tasks.concurrency.rejected, each tagged with workload=read|write.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(prefix = "task.concurrency", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    private final AdaptiveConcurrencyLimiter readLimiter;
+    private final AdaptiveConcurrencyLimiter writeLimiter;
+    private final String retryAfterSeconds;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties,
+                                  MeterRegistry meterRegistry,
+                                  ObjectMapper objectMapper) {
+        this.readLimiter = properties.getRead().toLimiter();
+        this.writeLimiter = properties.getWrite().toLimiter();
+        this.retryAfterSeconds = String.valueOf(Math.max(1, properties.getRetryAfter().toSeconds()));
+        this.objectMapper = objectMapper;
+
+        registerMetrics(meterRegistry, "read", readLimiter);
+        registerMetrics(meterRegistry, "write", writeLimiter);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if ("POST".equals(request.getMethod()) && path.equals("/tasks/import")) {
+            return true;
+        }
+        return !(path.equals("/tasks") || path.startsWith("/tasks/"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        AdaptiveConcurrencyLimiter limiter = isRead(request) ? readLimiter : writeLimiter;
+
+        if (!limiter.tryAcquire()) {
+            logger.debug("Shedding {} {} - limit {} reached", request.getMethod(),
+                    request.getRequestURI(), limiter.getLimit());
+            reject(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = response.getStatus() >= 500;
+        } finally {
+            limiter.release(System.nanoTime() - start, failed);
+        }
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        String method = request.getMethod();
+        if ("POST".equals(method)) {
+            return request.getRequestURI().endsWith("/tasks/lookup");
+        }
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                ApiResponse.error("Service is overloaded, please retry later"));
+    }
+
+    private static void registerMetrics(MeterRegistry registry, String workload,
+                                        AdaptiveConcurrencyLimiter limiter) {
+        Gauge.builder("tasks.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("workload", workload)
+                .description("Current adaptive concurrency limit")
+                .register(registry);
+        Gauge.builder("tasks.concurrency.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .tag("workload", workload)
+                .description("Requests currently admitted")
+                .register(registry);
+        FunctionCounter.builder("tasks.concurrency.rejected", limiter, AdaptiveConcurrencyLimiter::getRejectedCount)
+                .tag("workload", workload)
+                .description("Requests rejected with 503")
+                .register(registry);
+    }
+}
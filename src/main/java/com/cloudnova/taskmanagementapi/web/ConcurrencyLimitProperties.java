@@ -0,0 +1,59 @@
+package com.cloudnova.taskmanagementapi.web;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * ConcurrencyLimitProperties - Configuration of the /tasks concurrency limiters
+ *
+ * Bound from {@code task.concurrency.*}; reads and writes have separate limits.
+ */
+@ConfigurationProperties(prefix = "task.concurrency")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+    private Duration retryAfter = Duration.ofSeconds(1);
+    private Limit read = new Limit();
+    private Limit write = new Limit();
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public Duration getRetryAfter() { return retryAfter; }
+    public void setRetryAfter(Duration retryAfter) { this.retryAfter = retryAfter; }
+
+    public Limit getRead() { return read; }
+    public void setRead(Limit read) { this.read = read; }
+
+    public Limit getWrite() { return write; }
+    public void setWrite(Limit write) { this.write = write; }
+
+    public static class Limit {
+        private int initialLimit = 20;
+        private int minLimit = 4;
+        private int maxLimit = 200;
+        private Duration latencyThreshold = Duration.ofMillis(250);
+        private double backoffRatio = 0.9;
+
+        public AdaptiveConcurrencyLimiter toLimiter() {
+            return new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit,
+                    latencyThreshold.toNanos(), backoffRatio);
+        }
+
+        public int getInitialLimit() { return initialLimit; }
+        public void setInitialLimit(int initialLimit) { this.initialLimit = initialLimit; }
+
+        public int getMinLimit() { return minLimit; }
+        public void setMinLimit(int minLimit) { this.minLimit = minLimit; }
+
+        public int getMaxLimit() { return maxLimit; }
+        public void setMaxLimit(int maxLimit) { this.maxLimit = maxLimit; }
+
+        public Duration getLatencyThreshold() { return latencyThreshold; }
+        public void setLatencyThreshold(Duration latencyThreshold) { this.latencyThreshold = latencyThreshold; }
+
+        public double getBackoffRatio() { return backoffRatio; }
+        public void setBackoffRatio(double backoffRatio) { this.backoffRatio = backoffRatio; }
+    }
+}
@@ -0,0 +1,79 @@
+package com.cloudnova.taskmanagementapi.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Readiness during the JIT warm-up, and what the warm-up leaves behind
+ *
+ * The warm-up is small per round but never reaches a stable latency
+ * (tolerance 0), so it runs until its time limit and the test can observe
+ * readiness while it is in progress.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "task.analytics.backfill-on-startup=false",
+        "task.archive.enabled=false",
+        "task.warmup.enabled=true",
+        "task.warmup.seed-tasks=2",
+        "task.warmup.iterations-per-round=2",
+        "task.warmup.tolerance=0",
+        "task.warmup.max-rounds=100000",
+        "task.warmup.max-duration=4s"
+})
+class WarmupRunnerTest {
+
+    private static final long FINISH_TIMEOUT_MILLIS = 30_000;
+
+    private static final List<String> TENANT_TABLES = List.of("tasks", "archived_tasks", "task_closure",
+            "task_history", "task_history_outbox", "task_hourly_rollups");
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private WarmupHealthIndicator healthIndicator;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void readinessWaitsForTheWarmupWhichLeavesNoRows() throws InterruptedException {
+        ResponseEntity<JsonNode> readiness = restTemplate.getForEntity("/actuator/health/readiness", JsonNode.class);
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, readiness.getStatusCode());
+        assertEquals("WARMING_UP", readiness.getBody().get("status").asText());
+        // Only readiness waits; the aggregate health and liveness stay UP
+        assertEquals(HttpStatus.OK, restTemplate.getForEntity("/actuator/health", JsonNode.class).getStatusCode());
+        assertEquals(HttpStatus.OK,
+                restTemplate.getForEntity("/actuator/health/liveness", JsonNode.class).getStatusCode());
+
+        long deadline = System.currentTimeMillis() + FINISH_TIMEOUT_MILLIS;
+        while (!healthIndicator.isComplete() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(healthIndicator.isComplete(), "warm-up did not finish");
+
+        readiness = restTemplate.getForEntity("/actuator/health/readiness", JsonNode.class);
+        assertEquals(HttpStatus.OK, readiness.getStatusCode());
+        assertEquals("UP", readiness.getBody().get("status").asText());
+        assertEquals("timeout", healthIndicator.health().getDetails().get("warmup"));
+        assertTrue((Integer) healthIndicator.health().getDetails().get("rounds") > 1);
+
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        for (String table : TENANT_TABLES) {
+            assertEquals(0L, jdbc.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE tenant_id = ?",
+                    Long.class, WarmupRunner.WARMUP_TENANT), "warm-up rows left in " + table);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.cloudnova.taskmanagementapi.controller;
+
+import com.cloudnova.taskmanagementapi.model.Task;
+import com.cloudnova.taskmanagementapi.model.TaskStatus;
+import com.cloudnova.taskmanagementapi.repository.TaskRepository;
+import com.cloudnova.taskmanagementapi.support.SqlStatementBudget;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SQL statement budgets for every TaskController endpoint
+ *
+ * Guards against N+1 regressions: a list endpoint that starts issuing one
+ * query per row fails here. The query cache is disabled so every request
+ * reaches the database. Budgets are exact, so a change that removes a
+ * statement has to lower its budget. The analytics rollup MERGE every write
+ * adds before commit runs as plain JDBC (TaskRollupWriterImpl) and is not
+ * counted by Hibernate. History and JIT warm-up are disabled:
+ * their background threads would add statements to whichever request is
+ * being measured.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "task.query-cache.enabled=false",
+        "task.archive.enabled=false",
+        "task.analytics.backfill-on-startup=false",
+        "task.history.enabled=false",
+        "task.warmup.enabled=false"
+})
+@AutoConfigureMockMvc
+class TaskControllerQueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private SqlStatementBudget budget;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        budget = new SqlStatementBudget(entityManagerFactory);
+        task = taskRepository.save(new Task("Budget " + UUID.randomUUID(), "Query budget fixture", TaskStatus.TODO));
+    }
+
+    @Test
+    void listEndpointsRunOneQuery() throws Exception {
+        budget.assertExactly("GET /tasks", 1,
+                () -> mockMvc.perform(get("/tasks")).andExpect(status().isOk()));
+        budget.assertExactly("GET /tasks?status=TODO", 1,
+                () -> mockMvc.perform(get("/tasks").param("status", "TODO")).andExpect(status().isOk()));
+        budget.assertExactly("GET /tasks?search=", 1,
+                () -> mockMvc.perform(get("/tasks").param("search", "budget")).andExpect(status().isOk()));
+        budget.assertExactly("GET /tasks?search=&status=", 1,
+                () -> mockMvc.perform(get("/tasks").param("search", "budget").param("status", "TODO"))
+                        .andExpect(status().isOk()));
+        budget.assertExactly("GET /tasks?fields=", 1,
+                () -> mockMvc.perform(get("/tasks").param("fields", "id,title,status")).andExpect(status().isOk()));
+        budget.assertExactly("GET /tasks/search", 1,
+                () -> mockMvc.perform(get("/tasks/search").param("q", "budget")).andExpect(status().isOk()));
+        budget.assertExactly("GET /tasks/search?fields=", 1,
+                () -> mockMvc.perform(get("/tasks/search").param("q", "budget").param("fields", "id,title"))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void nextTasksRunOneQuery() throws Exception {
+        // Loads the tenant's priority queue on first use
+        mockMvc.perform(get("/tasks/next")).andExpect(status().isOk());
+
+        budget.assertExactly("GET /tasks/next", 1,
+                () -> mockMvc.perform(get("/tasks/next").param("limit", "5")).andExpect(status().isOk()));
+        budget.assertExactly("GET /tasks/next?fields=", 1,
+                () -> mockMvc.perform(get("/tasks/next").param("limit", "5").param("fields", "id,title,priority"))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void archiveInclusiveListsAddOneQuery() throws Exception {
+        budget.assertExactly("GET /tasks?includeArchived=true", 2,
+                () -> mockMvc.perform(get("/tasks").param("includeArchived", "true")).andExpect(status().isOk()));
+        budget.assertExactly("GET /tasks?search=&includeArchived=true", 2,
+                () -> mockMvc.perform(get("/tasks").param("search", "budget").param("includeArchived", "true"))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void filteredListsRunOneQueryPerIndexLeg() throws Exception {
+        // createdAt is indexed after status: one limited query per status
+        budget.assertExactly("GET /tasks?status=TODO,IN_PROGRESS&sort=createdAt", 2,
+                () -> mockMvc.perform(get("/tasks")
+                                .param("status", "TODO,IN_PROGRESS")
+                                .param("createdAfter", "2020-01-01T00:00:00")
+                                .param("sort", "createdAt"))
+                        .andExpect(status().isOk()));
+        // title has its own index: one query whatever the statuses
+        budget.assertExactly("GET /tasks?status=TODO,IN_PROGRESS&sort=title", 1,
+                () -> mockMvc.perform(get("/tasks")
+                                .param("status", "TODO,IN_PROGRESS")
+                                .param("sort", "title")
+                                .param("direction", "asc")
+                                .param("limit", "20"))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void tagFilterLoadsOnlyThePage() throws Exception {
+        Task tagged = new Task("Budget " + UUID.randomUUID(), "Tag fixture", TaskStatus.IN_PROGRESS);
+        tagged.setTags(Set.of("backend", "urgent"));
+        taskRepository.save(tagged);
+
+        // Builds the tenant's bitmap index on first use
+        mockMvc.perform(get("/tasks").param("tag", "backend")).andExpect(status().isOk());
+
+        budget.assertExactly("GET /tasks?tag=&tag=&status=", 1,
+                () -> mockMvc.perform(get("/tasks")
+                                .param("tag", "backend", "urgent")
+                                .param("status", "IN_PROGRESS"))
+                        .andExpect(status().isOk()));
+        budget.assertExactly("GET /tasks?tag=&fields=", 1,
+                () -> mockMvc.perform(get("/tasks")
+                                .param("tag", "backend")
+                                .param("fields", "id,title"))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void hierarchyReadsRunOneQuery() throws Exception {
+        Task child = taskRepository.save(new Task("Budget " + UUID.randomUUID(), "Subtask fixture", TaskStatus.TODO));
+        mockMvc.perform(put("/tasks/{id}/parent", child.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"parentId\": " + task.getId() + "}"))
+                .andExpect(status().isOk());
+
+        budget.assertExactly("GET /tasks/{id}/descendants", 1,
+                () -> mockMvc.perform(get("/tasks/{id}/descendants", task.getId())).andExpect(status().isOk()));
+        budget.assertExactly("GET /tasks/{id}/progress", 1,
+                () -> mockMvc.perform(get("/tasks/{id}/progress", task.getId())).andExpect(status().isOk()));
+    }
+
+    @Test
+    void singleTaskReadsRunOneQuery() throws Exception {
+        budget.assertExactly("GET /tasks/{id}", 1,
+                () -> mockMvc.perform(get("/tasks/{id}", task.getId())).andExpect(status().isOk()));
+        budget.assertExactly("GET /tasks/{id}?fields=", 1,
+                () -> mockMvc.perform(get("/tasks/{id}", task.getId()).param("fields", "id,title"))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void multiGetRunsOneQueryPerChunk() throws Exception {
+        budget.assertExactly("GET /tasks?ids=", 1,
+                () -> mockMvc.perform(get("/tasks").param("ids", task.getId() + ",1,2,3"))
+                        .andExpect(status().isOk()));
+        budget.assertExactly("GET /tasks?ids=&fields=", 1,
+                () -> mockMvc.perform(get("/tasks").param("ids", task.getId() + ",1,2,3").param("fields", "id,title"))
+                        .andExpect(status().isOk()));
+        budget.assertExactly("POST /tasks/lookup with a missing ID", 2,
+                () -> mockMvc.perform(post("/tasks/lookup")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"ids\": [" + task.getId() + ", 999999]}"))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    void statisticsRunFixedNumberOfCounts() throws Exception {
+        budget.assertExactly("GET /tasks/statistics", 6,
+                () -> mockMvc.perform(get("/tasks/statistics")).andExpect(status().isOk()));
+    }
+
+    @Test
+    void writesStayWithinBudget() throws Exception {
+        // Duplicate title checks (tasks + archive), insert
+        budget.assertExactly("POST /tasks", 3,
+                () -> mockMvc.perform(post("/tasks")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"title\": \"Budget " + UUID.randomUUID() + "\"}"))
+                        .andExpect(status().isCreated()));
+
+        // Load, duplicate title checks, update
+        budget.assertExactly("PUT /tasks/{id}", 4,
+                () -> mockMvc.perform(put("/tasks/{id}", task.getId())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"title\": \"Budget " + UUID.randomUUID() + "\", \"status\": \"IN_PROGRESS\"}"))
+                        .andExpect(status().isOk()));
+
+        // Load, update
+        budget.assertExactly("PATCH /tasks/{id}/complete", 2,
+                () -> mockMvc.perform(patch("/tasks/{id}/complete", task.getId())).andExpect(status().isOk()));
+
+        // Load, subtask check, delete
+        budget.assertExactly("DELETE /tasks/{id}", 3,
+                () -> mockMvc.perform(delete("/tasks/{id}", task.getId())).andExpect(status().isOk()));
+    }
+}
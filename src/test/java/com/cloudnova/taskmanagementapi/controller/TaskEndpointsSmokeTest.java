@@ -0,0 +1,122 @@
+package com.cloudnova.taskmanagementapi.controller;
+
+import com.cloudnova.taskmanagementapi.tenant.TenantFilter;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Every /tasks endpoint over real HTTP, JSON in and out
+ *
+ * Runs on the JVM with the other tests, and in native mode with
+ * ./mvnw -PnativeTest test, where it catches missing reachability metadata:
+ * a DTO Jackson cannot introspect, an entity Hibernate cannot instantiate or
+ * a request field validation cannot read. Each run uses its own tenant.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "task.warmup.enabled=false",
+        "task.analytics.backfill-on-startup=false"
+})
+class TaskEndpointsSmokeTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private final String tenant = "smoke-" + UUID.randomUUID().toString().substring(0, 8);
+
+    @Test
+    void everyTaskEndpointRoundTrips() {
+        JsonNode parent = call(HttpMethod.POST, "/tasks", Map.of(
+                "title", "Smoke parent", "description", "Native smoke test",
+                "priority", "HIGH", "tags", new String[]{"smoke", "backend"}), HttpStatus.CREATED);
+        long parentId = parent.get("id").asLong();
+        assertEquals("Smoke parent", parent.get("title").asText());
+
+        long childId = call(HttpMethod.POST, "/tasks", Map.of("title", "Smoke child"), HttpStatus.CREATED)
+                .get("id").asLong();
+
+        // Validation and the domain error path
+        call(HttpMethod.POST, "/tasks", Map.of("description", "no title"), HttpStatus.BAD_REQUEST);
+        call(HttpMethod.POST, "/tasks", Map.of("title", "Smoke parent"), HttpStatus.CONFLICT);
+        call(HttpMethod.GET, "/tasks/999999999", null, HttpStatus.NOT_FOUND);
+        call(HttpMethod.GET, "/tasks?ids=abc", null, HttpStatus.BAD_REQUEST);
+        call(HttpMethod.GET, "/tasks?createdAfter=notadate", null, HttpStatus.BAD_REQUEST);
+
+        // Reads
+        assertTrue(call(HttpMethod.GET, "/tasks", null, HttpStatus.OK).size() >= 2);
+        call(HttpMethod.GET, "/tasks?status=TODO&sort=createdAt&direction=desc&limit=10", null, HttpStatus.OK);
+        call(HttpMethod.GET, "/tasks?search=smoke", null, HttpStatus.OK);
+        assertEquals(parentId, call(HttpMethod.GET, "/tasks?tag=smoke", null, HttpStatus.OK).get(0).get("id").asLong());
+        call(HttpMethod.GET, "/tasks?fields=id,title,status", null, HttpStatus.OK);
+        call(HttpMethod.GET, "/tasks?ids=" + parentId + "," + childId, null, HttpStatus.OK);
+        assertEquals(2, call(HttpMethod.POST, "/tasks/lookup", Map.of("ids", new long[]{parentId, childId}),
+                HttpStatus.OK).get("tasks").size());
+        call(HttpMethod.GET, "/tasks/search?q=smoke", null, HttpStatus.OK);
+        call(HttpMethod.GET, "/tasks/next?limit=5", null, HttpStatus.OK);
+        assertEquals(parentId, call(HttpMethod.GET, "/tasks/" + parentId, null, HttpStatus.OK).get("id").asLong());
+        call(HttpMethod.GET, "/tasks/" + parentId + "?fields=id,title", null, HttpStatus.OK);
+        call(HttpMethod.GET, "/tasks/statistics", null, HttpStatus.OK);
+
+        // Hierarchy
+        call(HttpMethod.PUT, "/tasks/" + childId + "/parent", Map.of("parentId", parentId), HttpStatus.OK);
+        assertEquals(1, call(HttpMethod.GET, "/tasks/" + parentId + "/descendants", null, HttpStatus.OK).size());
+        call(HttpMethod.GET, "/tasks/" + parentId + "/progress", null, HttpStatus.OK);
+
+        // Writes
+        call(HttpMethod.PUT, "/tasks/" + childId, Map.of("title", "Smoke child renamed", "status", "IN_PROGRESS"),
+                HttpStatus.OK);
+        call(HttpMethod.PATCH, "/tasks/" + childId + "/complete", null, HttpStatus.OK);
+        call(HttpMethod.GET, "/tasks/" + childId + "/history", null, HttpStatus.OK);
+
+        // Analytics and import
+        call(HttpMethod.GET, "/tasks/analytics", null, HttpStatus.OK);
+        call(HttpMethod.POST, "/tasks/analytics/backfill", null, HttpStatus.OK);
+        String jobId = importNdjson("{\"title\":\"Smoke import\"}\n").get("id").asText();
+        call(HttpMethod.GET, "/tasks/import", null, HttpStatus.OK);
+        call(HttpMethod.GET, "/tasks/import/" + jobId, null, HttpStatus.OK);
+
+        call(HttpMethod.PUT, "/tasks/" + childId + "/parent", Map.of(), HttpStatus.OK);
+        call(HttpMethod.DELETE, "/tasks/" + childId, null, HttpStatus.OK);
+        call(HttpMethod.GET, "/tasks/" + childId, null, HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Send a JSON request and return the ApiResponse data
+     */
+    private JsonNode call(HttpMethod method, String path, Object body, HttpStatus expected) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(TenantFilter.TENANT_HEADER, tenant);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        ResponseEntity<JsonNode> response = restTemplate.exchange(path, method,
+                new HttpEntity<>(body, headers), JsonNode.class);
+
+        assertEquals(expected, response.getStatusCode(), method + " " + path + ": " + response.getBody());
+        assertEquals(expected.is2xxSuccessful(), response.getBody().get("success").asBoolean());
+        return response.getBody().path("data");
+    }
+
+    private JsonNode importNdjson(String rows) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(TenantFilter.TENANT_HEADER, tenant);
+        headers.setContentType(MediaType.parseMediaType("application/x-ndjson"));
+        ResponseEntity<JsonNode> response = restTemplate.exchange("/tasks/import", HttpMethod.POST,
+                new HttpEntity<>(rows, headers), JsonNode.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode(), "POST /tasks/import: " + response.getBody());
+        return response.getBody().path("data");
+    }
+}
@@ -0,0 +1,65 @@
+package com.cloudnova.taskmanagementapi.repository.bulkhead;
+
+import com.cloudnova.taskmanagementapi.model.Task;
+import com.cloudnova.taskmanagementapi.model.TaskStatus;
+import com.cloudnova.taskmanagementapi.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+
+/**
+ * A saturated background pool must not hold up interactive writes
+ *
+ * The test takes every background connection, as a long import or archival
+ * would, and then creates a task on the write pool.
+ */
+@SpringBootTest(properties = {
+        "task.warmup.enabled=false",
+        "task.analytics.backfill-on-startup=false",
+        "task.archive.enabled=false",
+        "task.history.enabled=false",
+        "task.bulkheads.background.maximum-pool-size=2",
+        "task.bulkheads.background.connection-timeout=500ms"
+})
+class BulkheadIsolationTest {
+
+    @Autowired
+    private DataSourceBulkheads bulkheads;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Test
+    void saturatedBackgroundPoolDoesNotBlockWrites() throws Exception {
+        List<Connection> held = new ArrayList<>();
+        try {
+            for (int i = 0; i < 2; i++) {
+                held.add(bulkheads.get(Workload.BACKGROUND).getConnection());
+            }
+
+            // Background work now waits for its pool and gives up
+            assertThrows(DataAccessResourceFailureException.class, () -> WorkloadContext.callAs(Workload.BACKGROUND,
+                    () -> taskService.createTask(new Task("Background " + UUID.randomUUID(), null, TaskStatus.TODO))),
+                    "background pool is not saturated");
+
+            Task created = assertTimeout(Duration.ofSeconds(2),
+                    () -> taskService.createTask(new Task("Write " + UUID.randomUUID(), null, TaskStatus.TODO)));
+            assertNotNull(created.getId());
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.cloudnova.taskmanagementapi.repository.columnar;
+
+import com.cloudnova.taskmanagementapi.model.Task;
+import com.cloudnova.taskmanagementapi.model.TaskStatus;
+import com.cloudnova.taskmanagementapi.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Undo log of the columnar TaskRepository: writes of a rolled back transaction are put back
+ */
+class ColumnarTaskRepositoryTest {
+
+    /**
+     * Transaction manager without a resource, so only the synchronization callbacks run
+     */
+    private static final class SynchronizationOnlyTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {}
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {}
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {}
+    }
+
+    private final TaskRepository repository = ColumnarTaskRepository.create();
+    private final TransactionTemplate transactionTemplate =
+            new TransactionTemplate(new SynchronizationOnlyTransactionManager());
+
+    @Test
+    void rollbackPutsBackEveryTaskTheTransactionChanged() {
+        Task kept = repository.save(new Task("Kept", "before", TaskStatus.TODO));
+        Task deleted = repository.save(new Task("Deleted", "before", TaskStatus.IN_PROGRESS));
+        Task original = repository.findById(kept.getId()).orElseThrow();
+
+        long[] insertedId = new long[1];
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            Task update = repository.findById(kept.getId()).orElseThrow();
+            update.setTitle("Renamed");
+            update.setStatus(TaskStatus.COMPLETED);
+            repository.save(update);
+            // A second write to the same task must not replace the first pre-image
+            update.setDescription("after");
+            repository.save(update);
+
+            repository.deleteById(deleted.getId());
+            insertedId[0] = repository.save(new Task("Inserted", null, TaskStatus.TODO)).getId();
+
+            // The transaction reads its own writes
+            assertEquals("Renamed", repository.findById(kept.getId()).orElseThrow().getTitle());
+            assertFalse(repository.existsById(deleted.getId()));
+            assertTrue(repository.existsById(insertedId[0]));
+            throw new IllegalStateException("fail the transaction");
+        }));
+
+        Task restored = repository.findById(kept.getId()).orElseThrow();
+        assertEquals("Kept", restored.getTitle());
+        assertEquals("before", restored.getDescription());
+        assertEquals(TaskStatus.TODO, restored.getStatus());
+        assertEquals(original.getUpdatedAt(), restored.getUpdatedAt());
+        assertEquals(TaskStatus.IN_PROGRESS, repository.findById(deleted.getId()).orElseThrow().getStatus());
+        assertFalse(repository.existsById(insertedId[0]));
+        assertEquals(2, repository.count());
+        assertEquals(1, repository.countByStatus(TaskStatus.TODO));
+    }
+
+    @Test
+    void commitKeepsTheWrites() {
+        Task task = repository.save(new Task("Committed", null, TaskStatus.TODO));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Task update = repository.findById(task.getId()).orElseThrow();
+            update.setStatus(TaskStatus.IN_PROGRESS);
+            repository.save(update);
+            repository.save(new Task("Second", null, TaskStatus.TODO));
+        });
+
+        assertEquals(TaskStatus.IN_PROGRESS, repository.findById(task.getId()).orElseThrow().getStatus());
+        assertEquals(2, repository.count());
+    }
+}
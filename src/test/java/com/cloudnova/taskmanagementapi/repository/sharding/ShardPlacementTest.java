@@ -0,0 +1,95 @@
+package com.cloudnova.taskmanagementapi.repository.sharding;
+
+import com.cloudnova.taskmanagementapi.model.Task;
+import com.cloudnova.taskmanagementapi.model.TaskStatus;
+import com.cloudnova.taskmanagementapi.service.TaskArchiveService;
+import com.cloudnova.taskmanagementapi.service.TaskService;
+import com.cloudnova.taskmanagementapi.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Placement of new and archived tasks under the "sharded" profile
+ *
+ * Checks the rows themselves on each shard's pool, not just the IDs: any
+ * statement that reaches the database before save() pins the transaction to
+ * the default shard, whatever the ID says.
+ */
+@SpringBootTest(properties = {
+        "task.warmup.enabled=false",
+        "task.analytics.backfill-on-startup=false",
+        "task.archive.enabled=false"
+})
+@ActiveProfiles("sharded")
+class ShardPlacementTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskArchiveService archiveService;
+
+    @Autowired
+    private ShardDataSources shards;
+
+    private final String tenant = "shards-" + UUID.randomUUID().toString().substring(0, 8);
+
+    @Test
+    void newTasksAreWrittenToTheirHashedShard() {
+        Set<Integer> used = new HashSet<>();
+        for (int i = 0; i < 12; i++) {
+            String title = "Placement " + tenant + " " + i;
+            Task task = TenantContext.callAs(tenant,
+                    () -> taskService.createTask(new Task(title, "placement", TaskStatus.TODO)));
+
+            int shard = Math.floorMod(title.hashCode(), shards.size());
+            assertEquals(shard, ShardKey.shardOf(task.getId()), title);
+            assertEquals(1, rowsOn(shard, "tasks", task.getId()), title + " on shard " + shard);
+            used.add(shard);
+        }
+        assertTrue(used.size() > 1, "12 titles all hashed to one shard: " + used);
+    }
+
+    @Test
+    void archivalMovesTasksWithinTheirShard() {
+        Set<Integer> used = new HashSet<>();
+        for (int i = 0; i < 8; i++) {
+            String title = "Archive " + tenant + " " + i;
+            Task task = TenantContext.callAs(tenant,
+                    () -> taskService.createTask(new Task(title, "archival", TaskStatus.COMPLETED)));
+            int shard = ShardKey.shardOf(task.getId());
+            used.add(shard);
+            new JdbcTemplate(shards.get(shard)).update("UPDATE tasks SET updated_at = ? WHERE id = ?",
+                    LocalDateTime.now().minusDays(365), task.getId());
+        }
+
+        assertTrue(archiveService.archive() >= 8);
+
+        for (int shard : used) {
+            JdbcTemplate jdbc = new JdbcTemplate(shards.get(shard));
+            assertEquals(0, count(jdbc, "tasks"), "hot rows left on shard " + shard);
+            assertTrue(count(jdbc, "archived_tasks") > 0, "no archived rows on shard " + shard);
+        }
+        assertEquals(8, TenantContext.callAs(tenant, () -> taskService.getAllTasks(true)).size());
+    }
+
+    private long rowsOn(int shard, String table, long id) {
+        return new JdbcTemplate(shards.get(shard)).queryForObject(
+                "SELECT COUNT(*) FROM " + table + " WHERE id = ?", Long.class, id);
+    }
+
+    private long count(JdbcTemplate jdbc, String table) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE tenant_id = ?", Long.class, tenant);
+    }
+}
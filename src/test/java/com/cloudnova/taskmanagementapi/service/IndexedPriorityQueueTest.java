@@ -0,0 +1,86 @@
+package com.cloudnova.taskmanagementapi.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IndexedPriorityQueueTest {
+
+    @Test
+    void topReturnsSmallestInOrder() {
+        IndexedPriorityQueue<String, Integer> queue = new IndexedPriorityQueue<>(Comparator.naturalOrder());
+        queue.put("c", 3);
+        queue.put("a", 1);
+        queue.put("d", 4);
+        queue.put("b", 2);
+
+        assertEquals(List.of("a", "b", "c"), queue.top(3));
+        assertEquals(List.of("a", "b", "c", "d"), queue.top(10));
+        assertEquals(4, queue.size());
+    }
+
+    @Test
+    void putMovesExistingKeyBothWays() {
+        IndexedPriorityQueue<String, Integer> queue = new IndexedPriorityQueue<>(Comparator.naturalOrder());
+        queue.put("a", 1);
+        queue.put("b", 2);
+        queue.put("c", 3);
+
+        queue.put("c", 0);
+        assertEquals(List.of("c", "a", "b"), queue.top(3));
+
+        queue.put("c", 9);
+        assertEquals(List.of("a", "b", "c"), queue.top(3));
+        assertEquals(3, queue.size());
+    }
+
+    @Test
+    void removeDropsKey() {
+        IndexedPriorityQueue<String, Integer> queue = new IndexedPriorityQueue<>(Comparator.naturalOrder());
+        queue.put("a", 1);
+        queue.put("b", 2);
+        queue.put("c", 3);
+
+        assertTrue(queue.remove("a"));
+        assertFalse(queue.remove("a"));
+        assertFalse(queue.contains("a"));
+        assertEquals(List.of("b", "c"), queue.top(3));
+    }
+
+    @Test
+    void matchesSortAfterRandomOperations() {
+        IndexedPriorityQueue<Integer, Integer> queue = new IndexedPriorityQueue<>(Comparator.naturalOrder());
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 5000; i++) {
+            int key = random.nextInt(500);
+            if (random.nextInt(4) == 0) {
+                assertEquals(expected.remove(key) != null, queue.remove(key));
+            } else {
+                int value = random.nextInt(1000);
+                queue.put(key, value);
+                expected.put(key, value);
+            }
+        }
+
+        List<Integer> sorted = new ArrayList<>(expected.keySet());
+        sorted.sort(Comparator.comparing((Integer key) -> expected.get(key)).thenComparing(key -> key));
+        List<Integer> top = queue.top(50);
+
+        assertEquals(expected.size(), queue.size());
+        assertEquals(50, top.size());
+        for (int i = 0; i < top.size(); i++) {
+            assertEquals(expected.get(sorted.get(i)), expected.get(top.get(i)));
+        }
+    }
+}
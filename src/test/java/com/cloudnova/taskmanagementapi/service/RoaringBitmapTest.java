@@ -0,0 +1,96 @@
+package com.cloudnova.taskmanagementapi.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoaringBitmapTest {
+
+    @Test
+    void addRemoveAndContains() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        bitmap.add(3);
+        bitmap.add(70_000);
+        bitmap.add(3);
+
+        assertTrue(bitmap.contains(3));
+        assertTrue(bitmap.contains(70_000));
+        assertFalse(bitmap.contains(4));
+        assertEquals(2, bitmap.cardinality());
+
+        bitmap.remove(3);
+        bitmap.remove(70_000);
+        assertTrue(bitmap.isEmpty());
+    }
+
+    @Test
+    void denseChunkSwitchesToBitmapAndBack() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int i = 0; i < 10_000; i++) {
+            bitmap.add(i * 2);
+        }
+        assertEquals(10_000, bitmap.cardinality());
+        assertTrue(bitmap.contains(19_998));
+        assertFalse(bitmap.contains(19_999));
+
+        for (int i = 0; i < 9_000; i++) {
+            bitmap.remove(i * 2);
+        }
+        assertEquals(1_000, bitmap.cardinality());
+        assertArrayEquals(new int[]{18_000, 18_002, 18_004}, bitmap.range(0, 3));
+    }
+
+    @Test
+    void rangePagesInAscendingOrder() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int i = 0; i < 200_000; i += 7) {
+            bitmap.add(i);
+        }
+
+        assertArrayEquals(new int[]{70, 77, 84}, bitmap.range(10, 3));
+        assertEquals(0, bitmap.range(bitmap.cardinality(), 10).length);
+    }
+
+    @Test
+    void andMatchesSetIntersection() {
+        Random random = new Random(42);
+        RoaringBitmap a = new RoaringBitmap();
+        RoaringBitmap b = new RoaringBitmap();
+        TreeSet<Integer> expectedA = new TreeSet<>();
+        TreeSet<Integer> expectedB = new TreeSet<>();
+
+        // Dense and sparse chunks on both sides, so every container pairing is exercised
+        for (int i = 0; i < 100_000; i++) {
+            int dense = random.nextInt(100_000);
+            int sparse = random.nextInt(5_000_000);
+            a.add(dense);
+            expectedA.add(dense);
+            a.add(sparse);
+            expectedA.add(sparse);
+            if (i % 2 == 0) {
+                b.add(dense);
+                expectedB.add(dense);
+            } else {
+                int other = random.nextInt(5_000_000);
+                b.add(other);
+                expectedB.add(other);
+            }
+        }
+        expectedA.retainAll(expectedB);
+
+        RoaringBitmap result = RoaringBitmap.and(a, b);
+        List<Integer> actual = new ArrayList<>();
+        for (int value : result.range(0, Integer.MAX_VALUE)) {
+            actual.add(value);
+        }
+        assertEquals(new ArrayList<>(expectedA), actual);
+    }
+}
@@ -0,0 +1,71 @@
+package com.cloudnova.taskmanagementapi.service;
+
+import com.cloudnova.taskmanagementapi.model.Task;
+import com.cloudnova.taskmanagementapi.model.TaskHourlyRollup;
+import com.cloudnova.taskmanagementapi.model.TaskStatus;
+import com.cloudnova.taskmanagementapi.repository.TaskRollupRepository;
+import com.cloudnova.taskmanagementapi.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Concurrent first writes to a new hourly rollup bucket
+ *
+ * Every create of a fresh tenant lands in the same (tenant, hour) row, which
+ * none of the transactions can see when they start. All of them must commit
+ * and be counted.
+ */
+@SpringBootTest(properties = {
+        "task.warmup.enabled=false",
+        "task.analytics.backfill-on-startup=false"
+})
+class TaskAnalyticsConcurrencyTest {
+
+    private static final int WRITERS = 15;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRollupRepository rollupRepository;
+
+    private final String tenant = "rollup-" + UUID.randomUUID().toString().substring(0, 8);
+
+    @Test
+    void parallelCreatesShareANewBucket() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(WRITERS);
+        try {
+            List<Future<Task>> creates = new ArrayList<>();
+            for (int i = 0; i < WRITERS; i++) {
+                String title = "Rollup " + tenant + " " + i;
+                creates.add(pool.submit(() -> {
+                    start.await();
+                    return TenantContext.callAs(tenant,
+                            () -> taskService.createTask(new Task(title, "concurrent", TaskStatus.TODO)));
+                }));
+            }
+            start.countDown();
+            for (Future<Task> create : creates) {
+                create.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        List<TaskHourlyRollup> rows = TenantContext.callAs(tenant, () -> rollupRepository.findAll());
+        assertEquals(WRITERS, rows.stream().mapToLong(TaskHourlyRollup::getCreatedCount).sum());
+        assertEquals(WRITERS, rows.stream().mapToLong(TaskHourlyRollup::getBacklogDelta).sum());
+    }
+}
@@ -0,0 +1,116 @@
+package com.cloudnova.taskmanagementapi.service;
+
+import com.cloudnova.taskmanagementapi.model.Task;
+import com.cloudnova.taskmanagementapi.model.TaskStatus;
+import com.cloudnova.taskmanagementapi.repository.TaskClosureRepository;
+import com.cloudnova.taskmanagementapi.tenant.TenantContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Cycle rejection and completion propagation through the closure table
+ *
+ * Each test builds its own tree in a fresh tenant:
+ * epic -> story -> (first, second).
+ */
+@SpringBootTest(properties = {
+        "task.warmup.enabled=false",
+        "task.analytics.backfill-on-startup=false",
+        "task.archive.enabled=false"
+})
+class TaskHierarchyServiceTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskHierarchyService hierarchyService;
+
+    @Autowired
+    private TaskClosureRepository closureRepository;
+
+    private final String tenant = "tree-" + UUID.randomUUID().toString().substring(0, 8);
+
+    private Task epic;
+    private Task story;
+    private Task first;
+    private Task second;
+
+    private void buildTree() {
+        epic = create("Epic", null);
+        story = create("Story", epic.getId());
+        first = create("First", story.getId());
+        second = create("Second", story.getId());
+    }
+
+    @Test
+    void movesThatWouldCreateACycleAreRejected() {
+        buildTree();
+
+        assertThrows(IllegalArgumentException.class, () -> as(() -> hierarchyService.move(epic.getId(), first.getId())));
+        assertThrows(IllegalArgumentException.class, () -> as(() -> hierarchyService.move(epic.getId(), story.getId())));
+        assertThrows(IllegalArgumentException.class, () -> as(() -> hierarchyService.move(story.getId(), story.getId())));
+
+        // The closure table is unchanged by the rejected moves
+        assertEquals(List.of(story.getId(), first.getId(), second.getId()), descendantIds(epic));
+        assertEquals(epic.getId(), as(() -> taskService.getTaskById(story.getId())).getParentId());
+
+        // A sibling subtree may move under a leaf, and back out again without closure rows
+        Task other = create("Other", null);
+        as(() -> hierarchyService.move(other.getId(), first.getId()));
+        assertEquals(List.of(story.getId(), first.getId(), second.getId(), other.getId()), descendantIds(epic));
+        as(() -> hierarchyService.move(other.getId(), null));
+        assertEquals(0L, as(() -> closureRepository.countByAncestorId(other.getId())));
+        assertEquals(List.of(story.getId(), first.getId(), second.getId()), descendantIds(epic));
+    }
+
+    @Test
+    void completingTheLastOpenSubtaskCompletesEveryAncestor() {
+        buildTree();
+
+        as(() -> taskService.completeTask(first.getId()));
+        assertEquals(TaskStatus.TODO, status(story));
+        assertEquals(TaskStatus.TODO, status(epic));
+
+        as(() -> taskService.updateTask(second.getId(), new Task(null, null, TaskStatus.CANCELLED)));
+        assertEquals(TaskStatus.COMPLETED, status(story));
+        assertEquals(TaskStatus.COMPLETED, status(epic));
+    }
+
+    @Test
+    void cancellingEverySubtaskLeavesTheParentOpen() {
+        buildTree();
+
+        as(() -> taskService.updateTask(first.getId(), new Task(null, null, TaskStatus.CANCELLED)));
+        as(() -> taskService.updateTask(second.getId(), new Task(null, null, TaskStatus.CANCELLED)));
+
+        assertEquals(TaskStatus.TODO, status(story));
+        assertEquals(TaskStatus.TODO, status(epic));
+    }
+
+    private Task create(String title, Long parentId) {
+        Task task = new Task(title + " " + tenant, "hierarchy", TaskStatus.TODO);
+        task.setParentId(parentId);
+        return as(() -> taskService.createTask(task));
+    }
+
+    private List<Long> descendantIds(Task task) {
+        return as(() -> closureRepository.findDescendantIds(task.getId()));
+    }
+
+    private TaskStatus status(Task task) {
+        return as(() -> taskService.getTaskById(task.getId())).getStatus();
+    }
+
+    private <T> T as(Supplier<T> action) {
+        return TenantContext.callAs(tenant, action);
+    }
+}
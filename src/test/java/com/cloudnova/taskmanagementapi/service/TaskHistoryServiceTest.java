@@ -0,0 +1,112 @@
+package com.cloudnova.taskmanagementapi.service;
+
+import com.cloudnova.taskmanagementapi.event.TaskChangedEvent;
+import com.cloudnova.taskmanagementapi.model.Task;
+import com.cloudnova.taskmanagementapi.model.TaskHistoryEntry;
+import com.cloudnova.taskmanagementapi.model.TaskHistoryOutbox;
+import com.cloudnova.taskmanagementapi.model.TaskStatus;
+import com.cloudnova.taskmanagementapi.repository.TaskHistoryOutboxRepository;
+import com.cloudnova.taskmanagementapi.repository.TaskHistoryRepository;
+import com.cloudnova.taskmanagementapi.tenant.TenantContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ordering and draining of the task history outbox
+ *
+ * The writer thread runs as in production; the scheduled sweep is pushed out
+ * of the test's way and called directly. A grace period of zero lets the
+ * sweep take rows as soon as they are committed.
+ */
+@SpringBootTest(properties = {
+        "task.warmup.enabled=false",
+        "task.analytics.backfill-on-startup=false",
+        "task.archive.enabled=false",
+        "task.history.sweep-grace=0s",
+        "task.history.sweep-initial-delay=1h"
+})
+class TaskHistoryServiceTest {
+
+    private static final long WRITER_TIMEOUT_MILLIS = 5_000;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskHistoryService historyService;
+
+    @Autowired
+    private TaskHistoryRepository historyRepository;
+
+    @Autowired
+    private TaskHistoryOutboxRepository outboxRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final String tenant = "history-" + UUID.randomUUID().toString().substring(0, 8);
+
+    @Test
+    void writerDrainsEveryChangeInCommitOrder() throws InterruptedException {
+        Task task = as(() -> taskService.createTask(new Task("History " + tenant, "outbox", TaskStatus.TODO)));
+        as(() -> taskService.updateTask(task.getId(), new Task(null, null, TaskStatus.IN_PROGRESS)));
+        as(() -> taskService.completeTask(task.getId()));
+
+        List<TaskHistoryEntry> entries = awaitHistory(task.getId(), 3);
+        assertEquals(List.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS, TaskStatus.COMPLETED),
+                entries.stream().map(TaskHistoryEntry::getStatus).toList());
+        assertEquals(TaskChangedEvent.Type.CREATED, entries.get(0).getType());
+        assertEquals(0L, as(() -> outboxRepository.count()), "outbox rows left behind");
+    }
+
+    @Test
+    void sweepMovesOutboxRowsTheWriterNeverSawExactlyOnce() throws Exception {
+        Task task = as(() -> taskService.createTask(new Task("Swept " + tenant, "outbox", TaskStatus.TODO)));
+        awaitHistory(task.getId(), 1);
+
+        // Committed changes whose snapshots were lost with the buffer, as after a crash
+        task.setStatus(TaskStatus.IN_PROGRESS);
+        String started = payload(TaskChangedEvent.updated(task, TaskStatus.TODO));
+        task.setStatus(TaskStatus.COMPLETED);
+        String completed = payload(TaskChangedEvent.updated(task, TaskStatus.IN_PROGRESS));
+        as(() -> outboxRepository.save(new TaskHistoryOutbox(started)));
+        as(() -> outboxRepository.save(new TaskHistoryOutbox(completed)));
+
+        assertTrue(historyService.sweepOutbox() >= 2);
+        assertEquals(0L, as(() -> outboxRepository.count()));
+        historyService.sweepOutbox();
+
+        List<TaskHistoryEntry> entries = as(() -> historyRepository.findByTaskIdOrderByOccurredAtAscIdAsc(task.getId()));
+        assertEquals(List.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS, TaskStatus.COMPLETED),
+                entries.stream().map(TaskHistoryEntry::getStatus).toList());
+    }
+
+    private String payload(TaskChangedEvent event) throws Exception {
+        return objectMapper.writeValueAsString(TaskHistoryEntry.from(event));
+    }
+
+    private List<TaskHistoryEntry> awaitHistory(Long taskId, int size) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WRITER_TIMEOUT_MILLIS;
+        while (true) {
+            List<TaskHistoryEntry> entries = as(() -> historyRepository.findByTaskIdOrderByOccurredAtAscIdAsc(taskId));
+            if (entries.size() >= size || System.currentTimeMillis() > deadline) {
+                assertEquals(size, entries.size(), "history entries of task " + taskId);
+                return entries;
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    private <T> T as(Supplier<T> action) {
+        return TenantContext.callAs(tenant, action);
+    }
+}
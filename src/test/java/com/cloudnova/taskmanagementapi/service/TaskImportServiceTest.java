@@ -0,0 +1,127 @@
+package com.cloudnova.taskmanagementapi.service;
+
+import com.cloudnova.taskmanagementapi.model.Task;
+import com.cloudnova.taskmanagementapi.model.TaskPriority;
+import com.cloudnova.taskmanagementapi.model.TaskStatus;
+import com.cloudnova.taskmanagementapi.repository.ArchivedTaskRepository;
+import com.cloudnova.taskmanagementapi.repository.TaskRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * CSV parsing and chunk handling of TaskImportService, against mocked repositories
+ */
+class TaskImportServiceTest {
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final List<Task> saved = new ArrayList<>();
+
+    private TaskImportService importer(int chunkSize) {
+        when(taskRepository.saveAll(anyList())).thenAnswer(call -> {
+            List<Task> batch = call.getArgument(0);
+            saved.addAll(batch);
+            return batch;
+        });
+        return new TaskImportService(taskRepository, mock(ArchivedTaskRepository.class), mock(EntityManager.class),
+                transactionManager, mock(ApplicationEventPublisher.class),
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), chunkSize, 100);
+    }
+
+    @Test
+    void csvMapsEveryTaskField() {
+        ImportJob job = importer(500).importCsv(new StringReader(
+                "tags,dueAt,priority,status,description,title\n"
+                        + "backend;Urgent,2026-03-01T17:00,high,IN_PROGRESS,\"Ship it, today\",Release\n"));
+
+        assertEquals(ImportJob.State.COMPLETED, job.getState());
+        assertEquals(1, job.getImported());
+        Task task = saved.get(0);
+        assertEquals("Release", task.getTitle());
+        assertEquals("Ship it, today", task.getDescription());
+        assertEquals(TaskStatus.IN_PROGRESS, task.getStatus());
+        assertEquals(TaskPriority.HIGH, task.getPriority());
+        assertEquals(LocalDateTime.of(2026, 3, 1, 17, 0), task.getDueAt());
+        assertEquals(Set.of("backend", "urgent"), task.getTags());
+    }
+
+    @Test
+    void malformedRowsAreRejectedAndTheRestImported() {
+        ImportJob job = importer(500).importCsv(new StringReader(
+                "title,dueAt\n"
+                        + "First,\n"
+                        + "Too,many,columns\n"
+                        + "Bad date,next tuesday\n"
+                        + ",2026-03-01T17:00\n"
+                        + "Last,2026-03-01T17:00\n"));
+
+        assertEquals(ImportJob.State.COMPLETED, job.getState());
+        assertEquals(5, job.getRowsRead());
+        assertEquals(2, job.getImported());
+        assertEquals(3, job.getFailed());
+        assertEquals(List.of(2L, 3L, 4L), job.getErrors().stream().map(ImportJob.RowError::row).toList());
+        assertEquals("Expected 2 columns, found 3", job.getErrors().get(0).message());
+        assertTrue(job.getErrors().get(1).message().startsWith("dueAt:"), job.getErrors().get(1).message());
+    }
+
+    @Test
+    void headerOnlyFileImportsNothing() {
+        ImportJob job = importer(500).importCsv(new StringReader("title,description,status\n"));
+
+        assertEquals(ImportJob.State.COMPLETED, job.getState());
+        assertEquals(0, job.getRowsRead());
+        verify(taskRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void unknownColumnFailsBeforeAnyRow() {
+        ImportJob job = importer(500).importCsv(new StringReader("title,owner\nFirst,alice\n"));
+
+        assertEquals(ImportJob.State.FAILED, job.getState());
+        assertTrue(job.getMessage().contains("'owner'"), job.getMessage());
+        assertEquals(0, job.getRowsRead());
+        verify(taskRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void failedChunkFailsTheJobAndKeepsEarlierChunks() {
+        TaskImportService importer = importer(2);
+        when(taskRepository.saveAll(anyList()))
+                .thenAnswer(call -> {
+                    List<Task> batch = call.getArgument(0);
+                    saved.addAll(batch);
+                    return batch;
+                })
+                .thenThrow(new IllegalStateException("database unavailable"));
+
+        ImportJob job = importer.importCsv(new StringReader("title\nOne\nTwo\nThree\nFour\nFive\n"));
+
+        assertEquals(ImportJob.State.FAILED, job.getState());
+        assertEquals("database unavailable", job.getMessage());
+        assertEquals(2, job.getImported());
+        assertEquals(4, job.getRowsRead());
+        assertEquals(List.of("One", "Two"), saved.stream().map(Task::getTitle).toList());
+        verify(transactionManager, times(1)).commit(any());
+        verify(transactionManager, times(1)).rollback(any());
+    }
+}
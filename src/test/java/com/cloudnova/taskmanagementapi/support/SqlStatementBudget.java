@@ -0,0 +1,55 @@
+package com.cloudnova.taskmanagementapi.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * SqlStatementBudget - Counts the SQL statements an action prepares, via Hibernate statistics
+ *
+ * Requires {@code spring.jpa.properties.hibernate.generate_statistics=true}.
+ * Statistics are global to the session factory, so only use this from tests
+ * that do not run requests concurrently and with background jobs disabled.
+ */
+public class SqlStatementBudget {
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    private final Statistics statistics;
+
+    public SqlStatementBudget(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            throw new IllegalStateException("Enable hibernate.generate_statistics to count statements");
+        }
+    }
+
+    /**
+     * Run the action and return the number of SQL statements it prepared
+     */
+    public long count(Action action) throws Exception {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * Run the action and fail unless it prepared exactly the budgeted statements
+     *
+     * Exact rather than an upper bound: a request that drops a statement has
+     * changed how it reads, and its budget should be lowered with the change.
+     * @param path description of the request, for the failure message
+     * @param budget the number of statements
+     * @param action the request to run
+     */
+    public void assertExactly(String path, long budget, Action action) throws Exception {
+        long statements = count(action);
+        assertEquals(budget, statements,
+                () -> path + " ran " + statements + " SQL statements, budget is " + budget);
+    }
+}
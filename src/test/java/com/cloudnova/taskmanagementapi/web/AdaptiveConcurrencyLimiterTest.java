@@ -0,0 +1,101 @@
+package com.cloudnova.taskmanagementapi.web;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long THRESHOLD = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    void rejectsWhenLimitReached() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, THRESHOLD, 0.5);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(1, limiter.getRejectedCount());
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    void growsAdditivelyWhenSaturatedAndFast() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, THRESHOLD, 0.5);
+
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.release(FAST, false);
+
+        assertEquals(3, limiter.getLimit());
+    }
+
+    @Test
+    void doesNotGrowWhenUnderutilized() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 10, THRESHOLD, 0.5);
+
+        limiter.tryAcquire();
+        limiter.release(FAST, false);
+
+        assertEquals(8, limiter.getLimit());
+    }
+
+    @Test
+    void backsOffMultiplicativelyOnSlowOrFailedRequests() {
+        AtomicLong clock = new AtomicLong();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 2, 10, THRESHOLD, 0.5, clock::get);
+
+        limiter.tryAcquire();
+        clock.addAndGet(SLOW);
+        limiter.release(SLOW, false);
+        assertEquals(4, limiter.getLimit());
+
+        limiter.tryAcquire();
+        clock.addAndGet(FAST);
+        limiter.release(FAST, true);
+        assertEquals(2, limiter.getLimit());
+
+        limiter.tryAcquire();
+        clock.addAndGet(SLOW);
+        limiter.release(SLOW, false);
+        assertEquals(2, limiter.getLimit(), "limit never drops below the minimum");
+    }
+
+    @Test
+    void backsOffOncePerRoundTripThenRecoversAdditively() {
+        AtomicLong clock = new AtomicLong();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 10, THRESHOLD, 0.5, clock::get);
+
+        // Eight requests admitted together, all slow: one backoff, not eight
+        for (int i = 0; i < 8; i++) {
+            limiter.tryAcquire();
+        }
+        clock.addAndGet(SLOW);
+        for (int i = 0; i < 8; i++) {
+            limiter.release(SLOW, false);
+        }
+        assertEquals(4, limiter.getLimit());
+
+        // A request admitted after the backoff may back off again
+        limiter.tryAcquire();
+        clock.addAndGet(SLOW);
+        limiter.release(SLOW, false);
+        assertEquals(2, limiter.getLimit());
+
+        // Fast requests at the limit grow it one at a time
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        clock.addAndGet(FAST);
+        limiter.release(FAST, false);
+        assertEquals(3, limiter.getLimit());
+        limiter.release(FAST, false);
+        assertEquals(3, limiter.getLimit(), "one request in flight does not use half of the limit");
+    }
+}